@@ -0,0 +1,64 @@
+package uk.gov.companieshouse.officerfiling.api.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint to inspect the in-memory caches and evict entries from them, for example after
+ * a company's details have been corrected. Like any actuator endpoint it is only reachable once
+ * enabled and exposed through the management properties.
+ */
+@Component
+@Endpoint(id = "apicaches")
+public class CachesEndpoint {
+
+    private final Map<String, ExpiringCache<?>> caches;
+
+    public CachesEndpoint(final List<ExpiringCache<?>> caches) {
+        this.caches = caches.stream()
+                .collect(Collectors.toMap(ExpiringCache::getName, Function.identity()));
+    }
+
+    @ReadOperation
+    public Map<String, CacheStatistics> caches() {
+        return caches.values().stream().collect(Collectors.toMap(ExpiringCache::getName,
+                cache -> new CacheStatistics(cache.size(), cache.hitCount(), cache.missCount())));
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Void> evictAll(@Selector final String cacheName) {
+        return withCache(cacheName, ExpiringCache::invalidateAll);
+    }
+
+    /**
+     * Evict one entry. The key is the rest of the path, so keys holding a '/', such as the company
+     * number and appointment ID of an appointment, can be evicted.
+     */
+    @DeleteOperation
+    public WebEndpointResponse<Void> evict(@Selector final String cacheName,
+            @Selector(match = Selector.Match.ALL_REMAINING) final String... key) {
+        return withCache(cacheName, cache -> cache.invalidate(String.join("/", key)));
+    }
+
+    private WebEndpointResponse<Void> withCache(final String cacheName,
+            final Consumer<ExpiringCache<?>> action) {
+        final var cache = caches.get(cacheName);
+        if (cache == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        action.accept(cache);
+        return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NO_CONTENT);
+    }
+
+    public record CacheStatistics(int size, long hits, long misses) {
+    }
+}
@@ -0,0 +1,175 @@
+package uk.gov.companieshouse.officerfiling.api.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A bounded in-memory cache whose entries expire a fixed time after they were loaded.
+ * <p>
+ * Once the cache holds {@code maximumSize} entries, the least recently used entry is evicted to
+ * make room. Loading happens outside the cache lock, and a failed load caches nothing. A cache with
+ * a maximum size or time to live of zero is disabled and always loads.
+ * </p>
+ * <p>
+ * Requests, evictions and size are published with the names Micrometer uses for caches:
+ * {@code cache.gets} (tagged {@code result=hit|miss}), {@code cache.evictions} and
+ * {@code cache.size}, all tagged with the cache name.
+ * </p>
+ *
+ * @param <V> the type of the cached values
+ */
+public class ExpiringCache<V> {
+
+    private final String name;
+    private final long timeToLiveMillis;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Map<String, CachedValue<V>> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public ExpiringCache(final String name, final int maximumSize, final Duration timeToLive,
+            final Clock clock, final MeterRegistry meterRegistry) {
+        this.name = name;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.clock = clock;
+        this.enabled = maximumSize > 0 && timeToLiveMillis > 0;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CachedValue<V>> eldest) {
+                if (size() <= maximumSize) {
+                    return false;
+                }
+                evictions.increment();
+                return true;
+            }
+        };
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.evictions = Counter.builder("cache.evictions")
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("cache.size", this, ExpiringCache::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Return the value cached for a key, loading and caching it if it is absent or has expired.
+     *
+     * @param key    the key
+     * @param loader loads the value for the key; any exception it throws is passed to the caller
+     * @return the cached or loaded value
+     */
+    public V get(final String key, final Function<String, V> loader) {
+        return get(key, cached -> true, loader);
+    }
+
+    /**
+     * Return the value cached for a key if it is still fresh, otherwise load and cache it. A cached
+     * value that fails the freshness check counts as a miss and is replaced by the loaded value.
+     *
+     * @param key     the key
+     * @param isFresh decides whether a cached value that has not expired can still be used
+     * @param loader  loads the value for the key; any exception it throws is passed to the caller
+     * @return the cached or loaded value
+     */
+    public V get(final String key, final Predicate<? super V> isFresh,
+            final Function<String, V> loader) {
+        if (!enabled) {
+            return loader.apply(key);
+        }
+        final var cached = lookup(key);
+        if (cached != null && isFresh.test(cached)) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        final var value = loader.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Cache a value, replacing any value held for the key. Null values are not cached.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(final String key, final V value) {
+        if (!enabled || value == null) {
+            return;
+        }
+        final var entry = new CachedValue<>(value, clock.millis() + timeToLiveMillis);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * @param key the key to discard
+     * @return true if the cache held a value for the key
+     */
+    public boolean invalidate(final String key) {
+        synchronized (entries) {
+            return entries.remove(key) != null;
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long hitCount() {
+        return (long) hits.count();
+    }
+
+    public long missCount() {
+        return (long) misses.count();
+    }
+
+    private V lookup(final String key) {
+        final var now = clock.millis();
+        synchronized (entries) {
+            final var entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= now) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    private Counter requests(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("cache.gets")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CachedValue<V>(V value, long expiresAt) {
+    }
+}
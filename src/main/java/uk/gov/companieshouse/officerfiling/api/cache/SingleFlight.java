@@ -0,0 +1,91 @@
+package uk.gov.companieshouse.officerfiling.api.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical calls to a downstream API. While a call for a key is in flight,
+ * other callers with the same key wait for it and share its result or exception instead of making
+ * a call of their own. Nothing is kept once the call completes; see {@link ExpiringCache} for
+ * reusing results afterwards.
+ * <p>
+ * Calls are counted as {@code singleflight.calls}, tagged with the name and
+ * {@code result=executed|coalesced}.
+ * </p>
+ *
+ * @param <V> the type of the call results
+ */
+public class SingleFlight<V> {
+
+    private final String name;
+    private final Map<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public SingleFlight(final String name, final MeterRegistry meterRegistry) {
+        this.name = name;
+        this.executed = calls(meterRegistry, "executed");
+        this.coalesced = calls(meterRegistry, "coalesced");
+    }
+
+    /**
+     * Make a call, or wait for the identical call already in flight.
+     *
+     * @param key  identifies identical calls
+     * @param call makes the call; any exception it throws is passed to every caller sharing it
+     * @return the result of the call
+     */
+    public V execute(final String key, final Supplier<V> call) {
+        final var flight = new CompletableFuture<V>();
+        final var existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+        executed.increment();
+        try {
+            final var result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (final RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long coalescedCount() {
+        return (long) coalesced.count();
+    }
+
+    private V await(final CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Counter calls(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("singleflight.calls")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -3,6 +3,7 @@ package uk.gov.companieshouse.officerfiling.api.config;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.util.function.Supplier;
+import org.bson.types.ObjectId;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -30,4 +31,15 @@ public class AppConfig {
     public Supplier<LocalDate> dateNow() {
         return LocalDate::now;
     }
+
+    /**
+     * Allocates filing ids on the application side, so a filing's links can be built before it is
+     * first written.
+     *
+     * @return a supplier of new ObjectIds
+     */
+    @Bean
+    public Supplier<ObjectId> filingIdGenerator() {
+        return ObjectId::new;
+    }
 }
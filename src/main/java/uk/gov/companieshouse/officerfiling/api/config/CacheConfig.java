@@ -0,0 +1,90 @@
+package uk.gov.companieshouse.officerfiling.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.api.model.delta.officers.AppointmentFullRecordAPI;
+import uk.gov.companieshouse.api.model.officers.CompanyOfficerApi;
+import uk.gov.companieshouse.officerfiling.api.cache.ExpiringCache;
+import uk.gov.companieshouse.officerfiling.api.cache.SingleFlight;
+
+/**
+ * In-memory caches of data fetched from downstream APIs, and coalescing of identical concurrent
+ * calls to them.
+ */
+@Configuration
+public class CacheConfig {
+
+    /**
+     * Company profiles by company number. A profile rarely changes during a filing journey, so
+     * validating the same company again within the time to live reuses the profile already fetched.
+     *
+     * @return the company profile cache
+     */
+    @Bean
+    public ExpiringCache<CompanyProfileApi> companyProfileCache(
+            @Value("${COMPANY_PROFILE_CACHE_MAX_SIZE:1000}") final int maximumSize,
+            @Value("${COMPANY_PROFILE_CACHE_TTL_SECONDS:30}") final long timeToLiveSeconds,
+            final Clock clock, final MeterRegistry meterRegistry) {
+        return new ExpiringCache<>("company-profile", maximumSize,
+                Duration.ofSeconds(timeToLiveSeconds), clock, meterRegistry);
+    }
+
+    /**
+     * Company appointment full records by company number and appointment ID. A cached appointment
+     * is only reused for a filing whose reference etag still matches it, so a filing referring to
+     * another version of the appointment always fetches it again.
+     *
+     * @return the company appointment cache
+     */
+    @Bean
+    public ExpiringCache<AppointmentFullRecordAPI> companyAppointmentCache(
+            @Value("${COMPANY_APPOINTMENT_CACHE_MAX_SIZE:1000}") final int maximumSize,
+            @Value("${COMPANY_APPOINTMENT_CACHE_TTL_SECONDS:30}") final long timeToLiveSeconds,
+            final Clock clock, final MeterRegistry meterRegistry) {
+        return new ExpiringCache<>("company-appointment", maximumSize,
+                Duration.ofSeconds(timeToLiveSeconds), clock, meterRegistry);
+    }
+
+    /**
+     * Active directors by company number. Users move back and forth through the director selection
+     * screen, so the list is kept briefly; it is discarded once a removal or appointment of a
+     * director of the company is submitted.
+     *
+     * @return the active directors cache
+     */
+    @Bean
+    public ExpiringCache<List<CompanyOfficerApi>> activeDirectorsCache(
+            @Value("${ACTIVE_DIRECTORS_CACHE_MAX_SIZE:1000}") final int maximumSize,
+            @Value("${ACTIVE_DIRECTORS_CACHE_TTL_SECONDS:10}") final long timeToLiveSeconds,
+            final Clock clock, final MeterRegistry meterRegistry) {
+        return new ExpiringCache<>("active-directors", maximumSize,
+                Duration.ofSeconds(timeToLiveSeconds), clock, meterRegistry);
+    }
+
+    @Bean
+    public SingleFlight<CompanyProfileApi> companyProfileCalls(final MeterRegistry meterRegistry) {
+        return new SingleFlight<>("company-profile", meterRegistry);
+    }
+
+    @Bean
+    public SingleFlight<AppointmentFullRecordAPI> companyAppointmentCalls(
+            final MeterRegistry meterRegistry) {
+        return new SingleFlight<>("company-appointment", meterRegistry);
+    }
+
+    /**
+     * The active directors of a company, gathered from every page of its officers list.
+     *
+     * @return the coalescing of concurrent calls for the same company
+     */
+    @Bean
+    public SingleFlight<List<CompanyOfficerApi>> activeDirectorsCalls(final MeterRegistry meterRegistry) {
+        return new SingleFlight<>("officers-list", meterRegistry);
+    }
+}
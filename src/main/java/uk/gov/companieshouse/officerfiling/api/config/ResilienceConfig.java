@@ -0,0 +1,74 @@
+package uk.gov.companieshouse.officerfiling.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.api.model.delta.officers.AppointmentFullRecordAPI;
+import uk.gov.companieshouse.officerfiling.api.resilience.Bulkhead;
+import uk.gov.companieshouse.officerfiling.api.resilience.CircuitBreaker;
+import uk.gov.companieshouse.officerfiling.api.resilience.Hedging;
+
+/**
+ * A bulkhead and a circuit breaker for each downstream API, so one slow or failing API neither
+ * holds up requests to the others nor keeps being called while it is down.
+ */
+@Configuration
+public class ResilienceConfig {
+
+    @Bean
+    public Bulkhead<CompanyProfileApi> companyProfileBulkhead(
+            @Value("${COMPANY_PROFILE_MAX_CONCURRENT_CALLS:20}") final int maxConcurrentCalls,
+            @Value("${COMPANY_PROFILE_TIMEOUT_MILLIS:5000}") final long timeoutMillis,
+            final MeterRegistry meterRegistry) {
+        return new Bulkhead<>("company-profile", maxConcurrentCalls,
+                Duration.ofMillis(timeoutMillis), meterRegistry);
+    }
+
+    @Bean
+    public Bulkhead<AppointmentFullRecordAPI> companyAppointmentBulkhead(
+            @Value("${COMPANY_APPOINTMENT_MAX_CONCURRENT_CALLS:20}") final int maxConcurrentCalls,
+            @Value("${COMPANY_APPOINTMENT_TIMEOUT_MILLIS:5000}") final long timeoutMillis,
+            final MeterRegistry meterRegistry) {
+        return new Bulkhead<>("company-appointment", maxConcurrentCalls,
+                Duration.ofMillis(timeoutMillis), meterRegistry);
+    }
+
+    @Bean
+    public CircuitBreaker<CompanyProfileApi> companyProfileCircuitBreaker(
+            @Value("${CIRCUIT_BREAKER_FAILURE_THRESHOLD:5}") final int failureThreshold,
+            @Value("${CIRCUIT_BREAKER_OPEN_SECONDS:30}") final long openSeconds,
+            final Clock clock, final MeterRegistry meterRegistry) {
+        return new CircuitBreaker<>("company-profile", failureThreshold,
+                Duration.ofSeconds(openSeconds), clock, meterRegistry);
+    }
+
+    @Bean
+    public CircuitBreaker<AppointmentFullRecordAPI> companyAppointmentCircuitBreaker(
+            @Value("${CIRCUIT_BREAKER_FAILURE_THRESHOLD:5}") final int failureThreshold,
+            @Value("${CIRCUIT_BREAKER_OPEN_SECONDS:30}") final long openSeconds,
+            final Clock clock, final MeterRegistry meterRegistry) {
+        return new CircuitBreaker<>("company-appointment", failureThreshold,
+                Duration.ofSeconds(openSeconds), clock, meterRegistry);
+    }
+
+    /**
+     * Hedging of slow company appointment queries, off unless enabled. Hedging only pays off when
+     * the slow responses come from one instance of the API, so a duplicate query is likely to be
+     * answered sooner.
+     *
+     * @return the company appointment hedging
+     */
+    @Bean
+    public Hedging<AppointmentFullRecordAPI> companyAppointmentHedging(
+            @Value("${COMPANY_APPOINTMENT_HEDGING_ENABLED:false}") final boolean enabled,
+            @Value("${COMPANY_APPOINTMENT_HEDGE_PERCENTILE:95}") final double percentile,
+            @Value("${COMPANY_APPOINTMENT_HEDGE_BUDGET_PERCENT:5}") final double budgetPercent,
+            final MeterRegistry meterRegistry) {
+        return new Hedging<>("company-appointment", percentile, enabled ? budgetPercent : 0,
+                meterRegistry);
+    }
+}
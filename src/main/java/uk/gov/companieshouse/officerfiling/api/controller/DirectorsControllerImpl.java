@@ -1,6 +1,7 @@
 package uk.gov.companieshouse.officerfiling.api.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -8,6 +9,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RestController;
+import uk.gov.companieshouse.api.model.delta.officers.AppointmentFullRecordAPI;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.officerfiling.api.exception.FeatureNotEnabledException;
@@ -119,8 +121,13 @@ public class DirectorsControllerImpl implements DirectorsController {
             else{
                 throw new OfficerServiceException("Could not find resigned on date for " + filingId);
             }
-            final var directorsDetails = companyAppointmentService.getCompanyAppointment(transaction.getId(),
-                    transaction.getCompanyNumber(), officerFiling.get().getData().getReferenceAppointmentId(), passthroughHeader);
+            final var data = officerFiling.get().getData();
+            final var appointment = companyAppointmentService.getCompanyAppointment(transaction.getId(),
+                    transaction.getCompanyNumber(), data.getReferenceAppointmentId(), data.getReferenceEtag(),
+                    passthroughHeader);
+            // The appointment may be shared from the cache, so the resigned on date is set on a copy
+            final var directorsDetails = new AppointmentFullRecordAPI();
+            BeanUtils.copyProperties(appointment, directorsDetails);
             directorsDetails.setResignedOn(LocalDate.ofInstant(resignedOn,
                     ZoneId.systemDefault()));
 
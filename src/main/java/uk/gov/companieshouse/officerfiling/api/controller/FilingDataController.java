@@ -2,9 +2,12 @@ package uk.gov.companieshouse.officerfiling.api.controller;
 
 import java.util.List;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.officerfiling.api.exception.NotImplementedException;
 
 public interface FilingDataController {
@@ -18,8 +21,21 @@ public interface FilingDataController {
      * @throws NotImplementedException implementing classes must perform work
      */
     @GetMapping
-    default List<FilingApi> getFilingsData(@PathVariable("transactionId") String transId,
+    default ResponseEntity<List<FilingApi>> getFilingsData(@PathVariable("transactionId") String transId,
             @PathVariable("filingResource") String filingResource, HttpServletRequest request) {
         throw new NotImplementedException();
     }
+
+    /**
+     * Controller endpoint: retrieve Filing Data for every Officer Filing in a Transaction.
+     *
+     * @param transaction the Transaction
+     * @param request     the servlet request
+     * @throws NotImplementedException implementing classes must perform work
+     */
+    @GetMapping
+    default ResponseEntity<List<FilingApi>> getTransactionFilingsData(
+            @RequestAttribute("transaction") Transaction transaction, HttpServletRequest request) {
+        throw new NotImplementedException();
+    }
 }
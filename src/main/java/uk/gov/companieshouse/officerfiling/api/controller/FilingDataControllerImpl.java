@@ -1,16 +1,24 @@
 package uk.gov.companieshouse.officerfiling.api.controller;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.officerfiling.api.exception.FeatureNotEnabledException;
+import uk.gov.companieshouse.officerfiling.api.model.entity.OfficerFiling;
 import uk.gov.companieshouse.officerfiling.api.service.FilingDataService;
+import uk.gov.companieshouse.officerfiling.api.service.OfficerFilingService;
 import uk.gov.companieshouse.officerfiling.api.utils.LogHelper;
 import uk.gov.companieshouse.sdk.manager.ApiSdkManager;
 
@@ -18,20 +26,23 @@ import uk.gov.companieshouse.sdk.manager.ApiSdkManager;
 @RequestMapping("/private/transactions/{transactionId}/officers")
 public class FilingDataControllerImpl implements FilingDataController {
     private final FilingDataService filingDataService;
+    private final OfficerFilingService officerFilingService;
     private final Logger logger;
     @Value("${FEATURE_FLAG_ENABLE_TM01:true}")
     private boolean isTm01Enabled;
 
     public FilingDataControllerImpl(final FilingDataService filingDataService,
-            final Logger logger) {
+            final OfficerFilingService officerFilingService, final Logger logger) {
         this.filingDataService = filingDataService;
+        this.officerFilingService = officerFilingService;
         this.logger = logger;
     }
 
     /**
      * Controller endpoint: retrieve Filing Data. Returns a list containing a single resource;
      * Future capability to return multiple resources if a Transaction contains multiple Officer
-     * Filings.
+     * Filings. The filing data is generated once and then stored with the filing. The response has
+     * the ETag of the filing, and is NOT MODIFIED if the If-None-Match header matches it.
      *
      * @param transId        the Transaction ID
      * @param filingResourceId the Filing Resource ID
@@ -40,7 +51,7 @@ public class FilingDataControllerImpl implements FilingDataController {
      */
     @Override
     @GetMapping(value = "/{filingResourceId}/filings", produces = {"application/json"})
-    public List<FilingApi> getFilingsData(@PathVariable("transactionId") final String transId,
+    public ResponseEntity<List<FilingApi>> getFilingsData(@PathVariable("transactionId") final String transId,
             @PathVariable("filingResourceId") final String filingResourceId,
             final HttpServletRequest request) {
 
@@ -53,14 +64,74 @@ public class FilingDataControllerImpl implements FilingDataController {
                         .withRequest(request)
                         .build());
 
+        final var officerFiling = officerFilingService.get(filingResourceId, transId);
+        if (officerFiling.isPresent() && FilingETags.isNotModified(request, officerFiling.get())) {
+            // The filing is unchanged, so there is no need to fetch the appointment again
+            logger.debugContext(transId, "Filing data not modified", new LogHelper.Builder(transId)
+                    .withFilingId(filingResourceId)
+                    .build());
+            return FilingETags.notModified(officerFiling.get());
+        }
+
         final var passthroughHeader = request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader());
-        final var filingApi = filingDataService.generateOfficerFiling(transId, filingResourceId, passthroughHeader);
+        final var filingApi = officerFiling
+                .map(filing -> filingDataService.storeOfficerFiling(transId, filing, passthroughHeader))
+                .orElseGet(() -> filingDataService.generateOfficerFiling(transId, filingResourceId,
+                        passthroughHeader));
 
         logger.infoContext(transId, "Generated officer filing data", new LogHelper.Builder(transId)
                 .withFilingId(filingResourceId)
                 .withRequest(request)
                 .build());
 
-        return List.of(filingApi);
+        return officerFiling
+                .map(filing -> FilingETags.withETag(ResponseEntity.ok(), filing))
+                .orElseGet(ResponseEntity::ok)
+                .body(List.of(filingApi));
+    }
+
+    /**
+     * Controller endpoint: retrieve Filing Data for every Officer Filing in a Transaction, in the
+     * order of its resources. The filings are read with a single query, and the filing data of each
+     * is generated once and then stored with the filing.
+     *
+     * @param transaction the Transaction
+     * @param request     the servlet request
+     * @return List of FilingApi resources
+     */
+    @Override
+    @GetMapping(value = "/filings", produces = {"application/json"})
+    public ResponseEntity<List<FilingApi>> getTransactionFilingsData(
+            @RequestAttribute("transaction") final Transaction transaction,
+            final HttpServletRequest request) {
+
+        if(!isTm01Enabled){
+            throw new FeatureNotEnabledException();
+        }
+
+        final var transId = transaction.getId();
+        logger.debugContext(transId, "Getting filing data for transaction", new LogHelper.Builder(transaction)
+                .withRequest(request)
+                .build());
+
+        final var filingIds = OfficerFilingControllerImpl.getOfficerFilingIds(transaction);
+        final Map<String, OfficerFiling> officerFilings = officerFilingService.getAll(filingIds, transId)
+                .stream()
+                .collect(Collectors.toMap(OfficerFiling::getId, Function.identity()));
+
+        final var passthroughHeader = request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader());
+        final var filingApis = filingIds.stream()
+                .map(filingId -> officerFilings.containsKey(filingId)
+                        ? filingDataService.storeOfficerFiling(transId, officerFilings.get(filingId),
+                                passthroughHeader)
+                        : filingDataService.generateOfficerFiling(transId, filingId, passthroughHeader))
+                .toList();
+
+        logger.infoContext(transId, "Generated officer filing data for " + filingApis.size() + " filings",
+                new LogHelper.Builder(transaction)
+                        .withRequest(request)
+                        .build());
+
+        return ResponseEntity.ok(filingApis);
     }
 }
@@ -0,0 +1,78 @@
+package uk.gov.companieshouse.officerfiling.api.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import uk.gov.companieshouse.officerfiling.api.model.entity.OfficerFiling;
+
+/**
+ * Entity tags of Officer Filing responses. The ETag of a filing is its version, which changes
+ * every time the filing is saved; a filing stored before filings had versions has no ETag.
+ */
+final class FilingETags {
+
+    private FilingETags() {
+    }
+
+    /**
+     * Get the filing versions allowed by the If-Match header. Any entity tag other than a filing
+     * version matches no version.
+     *
+     * @param request the servlet request
+     * @return the allowed versions, or null if the request has no If-Match condition
+     */
+    static List<Long> getIfMatchVersions(final HttpServletRequest request) {
+        final var eTags = parse(request, HttpHeaders.IF_MATCH);
+        if (eTags.isEmpty() || eTags.stream().anyMatch(ETag::isWildcard)) {
+            return null;
+        }
+        // If-Match uses the strong comparison, so weak tags never match
+        return eTags.stream()
+                .filter(eTag -> !eTag.weak() && eTag.tag().matches("\\d+"))
+                .map(eTag -> Long.valueOf(eTag.tag()))
+                .toList();
+    }
+
+    /**
+     * @param request       the servlet request
+     * @param officerFiling the current filing
+     * @return true if the If-None-Match header matches the ETag of the filing, so the client
+     *     already has the current representation
+     */
+    static boolean isNotModified(final HttpServletRequest request,
+            final OfficerFiling officerFiling) {
+        if (officerFiling.getVersion() == null) {
+            return false;
+        }
+        final var version = String.valueOf(officerFiling.getVersion());
+        // If-None-Match uses the weak comparison
+        return parse(request, HttpHeaders.IF_NONE_MATCH).stream()
+                .anyMatch(eTag -> eTag.isWildcard() || eTag.tag().equals(version));
+    }
+
+    /**
+     * @param officerFiling the current filing
+     * @return a NOT MODIFIED response with the ETag of the filing
+     */
+    static <T> ResponseEntity<T> notModified(final OfficerFiling officerFiling) {
+        return withETag(ResponseEntity.status(HttpStatus.NOT_MODIFIED), officerFiling).build();
+    }
+
+    static ResponseEntity.BodyBuilder withETag(final ResponseEntity.BodyBuilder builder,
+            final OfficerFiling officerFiling) {
+        return officerFiling.getVersion() == null ? builder : builder.eTag(
+                String.valueOf(officerFiling.getVersion()));
+    }
+
+    private static List<ETag> parse(final HttpServletRequest request, final String headerName) {
+        final var values = request.getHeaders(headerName);
+        if (values == null || !values.hasMoreElements()) {
+            return List.of();
+        }
+        return ETag.parse(String.join(",", Collections.list(values)));
+    }
+}
@@ -3,6 +3,7 @@ package uk.gov.companieshouse.officerfiling.api.controller;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,6 +15,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.officerfiling.api.exception.NotImplementedException;
 import uk.gov.companieshouse.officerfiling.api.model.dto.OfficerFilingDto;
+import uk.gov.companieshouse.officerfiling.api.model.dto.OfficerFilingDtoList;
+import uk.gov.companieshouse.officerfiling.api.model.dto.OfficerTerminationDtoList;
+import uk.gov.companieshouse.officerfiling.api.model.dto.OfficerTerminationResultDto;
 
 public interface OfficerFilingController {
     /**
@@ -32,6 +36,39 @@ public interface OfficerFilingController {
         throw new NotImplementedException();
     }
 
+    /**
+     * Create several Officer Filings in a Transaction.
+     *
+     * @param transaction   the Transaction
+     * @param filings       the request body payload DTOs, one per filing
+     * @param bindingResult the MVC binding result (with any validation errors)
+     * @param request       the servlet request
+     * @throws NotImplementedException implementing classes must perform work
+     */
+    @PostMapping
+    default ResponseEntity<Object> createFilings(@RequestAttribute("transaction") Transaction transaction,
+            @RequestBody @Valid @NotNull final OfficerFilingDtoList filings,
+            final BindingResult bindingResult, final HttpServletRequest request) {
+        throw new NotImplementedException();
+    }
+
+    /**
+     * Terminate several officers of the company of a Transaction.
+     *
+     * @param transaction   the Transaction
+     * @param terminations  the request body payload DTOs, one per termination
+     * @param bindingResult the MVC binding result (with any validation errors)
+     * @param request       the servlet request
+     * @throws NotImplementedException implementing classes must perform work
+     */
+    @PostMapping
+    default ResponseEntity<List<OfficerTerminationResultDto>> createTerminations(
+            @RequestAttribute("transaction") Transaction transaction,
+            @RequestBody @Valid @NotNull final OfficerTerminationDtoList terminations,
+            final BindingResult bindingResult, final HttpServletRequest request) {
+        throw new NotImplementedException();
+    }
+
     /**
      * Patch an Officer Filing.
      *
@@ -54,12 +91,14 @@ public interface OfficerFilingController {
      *
      * @param transId        the Transaction ID
      * @param filingResource the Officer Filing ID
+     * @param request        the servlet request
      * @throws NotImplementedException implementing classes must perform work
      */
     @GetMapping
     default ResponseEntity<OfficerFilingDto> getFilingForReview(
             @RequestAttribute("transaction") Transaction transaction,
-            @PathVariable("filingResource") String filingResource) {
+            @PathVariable("filingResource") String filingResource,
+            final HttpServletRequest request) {
         throw new NotImplementedException();
     }
 }
@@ -7,6 +7,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
@@ -24,24 +26,37 @@ import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.officerfiling.api.error.InvalidFilingException;
 import uk.gov.companieshouse.officerfiling.api.exception.FeatureNotEnabledException;
+import uk.gov.companieshouse.officerfiling.api.interceptor.ValidTransactionInterceptor;
 import uk.gov.companieshouse.officerfiling.api.model.dto.OfficerFilingDto;
+import uk.gov.companieshouse.officerfiling.api.model.dto.OfficerFilingDtoList;
+import uk.gov.companieshouse.officerfiling.api.model.dto.OfficerTerminationDto;
+import uk.gov.companieshouse.officerfiling.api.model.dto.OfficerTerminationDtoList;
+import uk.gov.companieshouse.officerfiling.api.model.dto.OfficerTerminationResultDto;
 import uk.gov.companieshouse.officerfiling.api.model.entity.Links;
 import uk.gov.companieshouse.officerfiling.api.model.entity.OfficerFiling;
+import uk.gov.companieshouse.officerfiling.api.model.entity.OfficerFilingData;
+import uk.gov.companieshouse.officerfiling.api.model.mapper.ErrorMapper;
 import uk.gov.companieshouse.officerfiling.api.model.mapper.OfficerFilingMapper;
 import uk.gov.companieshouse.officerfiling.api.service.OfficerFilingService;
+import uk.gov.companieshouse.officerfiling.api.service.OfficerService;
 import uk.gov.companieshouse.officerfiling.api.service.TransactionService;
 import uk.gov.companieshouse.officerfiling.api.utils.LogHelper;
 import uk.gov.companieshouse.officerfiling.api.utils.LogHelper.Builder;
+import uk.gov.companieshouse.officerfiling.api.validation.OfficerTerminationValidator;
 import uk.gov.companieshouse.sdk.manager.ApiSdkManager;
 
-import java.io.File;
 import java.time.Clock;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 @RestController
 @RequestMapping("/transactions/{transactionId}/officers")
@@ -52,27 +67,48 @@ public class OfficerFilingControllerImpl implements OfficerFilingController {
     public static final String OFFICER_FILING_NAME = "OfficerFiling";
     public static final String TRANSACTION = "transaction";
     public static final String FILING_RESOURCE_ID = "filingResourceId";
+    public static final String BATCH = "batch";
+    public static final String TERMINATIONS = "terminations";
     private final TransactionService transactionService;
     private final OfficerFilingService officerFilingService;
+    private final OfficerService officerService;
     private final OfficerFilingMapper filingMapper;
+    private final OfficerTerminationValidator officerTerminationValidator;
+    private final ErrorMapper errorMapper;
     private final Clock clock;
+    private final Supplier<ObjectId> filingIdGenerator;
     private final Logger logger;
     @Value("${FEATURE_FLAG_ENABLE_TM01:true}")
     private boolean isTm01Enabled;
+    @Value("${PATCH_IN_PLACE_ENABLED:false}")
+    private boolean isPatchInPlaceEnabled;
+    @Value("${OFFICER_FILINGS_MAX_BATCH_SIZE:100}")
+    private int maxBatchSize;
     public OfficerFilingControllerImpl(final TransactionService transactionService,
                                        final OfficerFilingService officerFilingService,
+                                       final OfficerService officerService,
                                        final OfficerFilingMapper filingMapper,
+                                       final OfficerTerminationValidator officerTerminationValidator,
+                                       final ErrorMapper errorMapper,
                                        final Clock clock,
+                                       final Supplier<ObjectId> filingIdGenerator,
                                        final Logger logger) {
         this.transactionService = transactionService;
         this.officerFilingService = officerFilingService;
+        this.officerService = officerService;
         this.filingMapper = filingMapper;
+        this.officerTerminationValidator = officerTerminationValidator;
+        this.errorMapper = errorMapper;
         this.clock = clock;
+        this.filingIdGenerator = filingIdGenerator;
         this.logger = logger;
     }
 
     /**
-     * Create an Officer Filing.
+     * Create an Officer Filing. If the Transaction already holds a single Officer Filing, that filing
+     * is replaced, so a web user who goes back and selects a different director still has only one
+     * resource in the transaction. Use {@link #createFilings} to add several filings to a
+     * transaction.
      *
      * @param transaction the Transaction
      * @param dto           the request body payload DTO
@@ -102,15 +138,10 @@ public class OfficerFilingControllerImpl implements OfficerFilingController {
 
         var entity = filingMapper.map(dto);
 
-        // Reuse this filing ID if it exists as we can only have one per transaction
-        //***********************************************************************************************
-        // NB for the moment to get around an issue where a web user could go back and select a different
-        // director, which would cause multiple resources in the transaction when only ONE is wanted.
-        // More thought is required for later when we will do this within Confirmation statemnet
-        // as that will need multiple resources in the same transaction.
-        //***********************************************************************************************
-        String preExistingFilingId = getExistingFilingId(transaction);
-        if(preExistingFilingId != null){
+        // Reuse the filing ID if the transaction holds only one filing, so going back and selecting
+        // a different director replaces it rather than adding another resource
+        final var preExistingFilingId = getExistingFilingId(transaction);
+        if (preExistingFilingId != null) {
             entity = OfficerFiling.builder(entity)
                     .id(preExistingFilingId)
                     .build();
@@ -127,17 +158,241 @@ public class OfficerFilingControllerImpl implements OfficerFilingController {
         }
 
         transaction.setResources(resourceMap);
-        if(preExistingFilingId == null || updateDescription) {
+        if (preExistingFilingId == null || updateDescription) {
             logger.debug("Update transaction" + (StringUtils.isBlank(transaction.getDescription()) ? "" :  ": " + transaction.getDescription()));
             transactionService.updateTransaction(transaction, passthroughHeader);
         }
+        // A director of the company is being removed, appointed or updated
+        officerService.invalidateListOfActiveDirectors(transaction.getCompanyNumber());
 
         // Create response with filing
-        return ResponseEntity.created(links.getSelf()).body(officerFiling);
+        return FilingETags.withETag(ResponseEntity.created(links.getSelf()), officerFiling).body(officerFiling);
     }
 
     /**
-     * Patch an Officer Filing.
+     * Create several Officer Filings in a Transaction. Unlike {@link #createFiling}, each filing is
+     * a new resource added to those already in the transaction. The filings are stored by a single
+     * bulk insert, and the transaction is updated once with all the new resources. At most
+     * {@code OFFICER_FILINGS_MAX_BATCH_SIZE} filings can be created by one request.
+     *
+     * @param transaction   the Transaction
+     * @param filings       the request body payload DTOs, one per filing
+     * @param bindingResult the MVC binding result (with any validation errors)
+     * @param request       the servlet request
+     * @return CREATED response containing the populated Filing resources
+     */
+    @Override
+    @PostMapping(value = "/" + BATCH, produces = {"application/json"}, consumes = {"application/json"})
+    public ResponseEntity<Object> createFilings(@RequestAttribute(TRANSACTION) Transaction transaction,
+            @RequestBody @Valid @NotNull final OfficerFilingDtoList filings,
+            final BindingResult bindingResult, final HttpServletRequest request) {
+
+        if(!isTm01Enabled){
+            throw new FeatureNotEnabledException();
+        }
+        logger.debugContext(transaction.getId(), "Creating filings", new LogHelper.Builder(transaction)
+                .withRequest(request)
+                .build());
+
+        final var dtos = checkBatch(filings.getFilings(), bindingResult, "filings", "No filings to create");
+
+        final var passthroughHeader =
+                request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader());
+        dtos.stream()
+                .map(OfficerFilingDto::getDescription)
+                .filter(StringUtils::isNotBlank)
+                .findFirst()
+                .ifPresent(transaction::setDescription);
+        final var officerFilings = saveFilings(dtos.stream().map(filingMapper::map).toList(),
+                transaction, request, BATCH, passthroughHeader);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(officerFilings);
+    }
+
+    /**
+     * Terminate several officers of the company of a Transaction. The terminations are validated
+     * together, fetching the company profile once and the appointments concurrently, and a TM01
+     * filing is created for each valid termination as {@link #createFilings} does. An invalid
+     * termination creates no filing. The request is rejected if it terminates an officer twice, or
+     * an officer who already has a filing in the transaction.
+     *
+     * @param transaction   the Transaction
+     * @param terminations  the request body payload DTOs, each with the appointment ID, etag and
+     *                      resignation date of an officer
+     * @param bindingResult the MVC binding result (with any validation errors)
+     * @param request       the servlet request
+     * @return CREATED response if every termination is valid, otherwise MULTI_STATUS, containing
+     *     the result of each termination, in the order requested
+     */
+    @Override
+    @PostMapping(value = "/" + TERMINATIONS, produces = {"application/json"}, consumes = {"application/json"})
+    public ResponseEntity<List<OfficerTerminationResultDto>> createTerminations(
+            @RequestAttribute(TRANSACTION) Transaction transaction,
+            @RequestBody @Valid @NotNull final OfficerTerminationDtoList terminations,
+            final BindingResult bindingResult, final HttpServletRequest request) {
+
+        if(!isTm01Enabled){
+            throw new FeatureNotEnabledException();
+        }
+        logger.debugContext(transaction.getId(), "Terminating officers", new LogHelper.Builder(transaction)
+                .withRequest(request)
+                .build());
+
+        final var dtos = checkBatch(terminations.getTerminations(), bindingResult, TERMINATIONS,
+                "No terminations to create").stream()
+                .map(OfficerFilingControllerImpl::toFilingDto)
+                .toList();
+        checkAppointmentsNotFiled(dtos, transaction);
+
+        final var passthroughHeader =
+                request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader());
+        final var validationErrors = officerTerminationValidator.validateAll(request, dtos, transaction,
+                passthroughHeader);
+        final var validFilings = IntStream.range(0, dtos.size())
+                .filter(i -> !validationErrors.get(i).hasErrors())
+                .mapToObj(i -> filingMapper.map(dtos.get(i)))
+                .toList();
+        final var officerFilings = (validFilings.isEmpty() ? List.<OfficerFiling>of()
+                : saveFilings(validFilings, transaction, request, TERMINATIONS, passthroughHeader)).iterator();
+
+        final List<OfficerTerminationResultDto> results = new ArrayList<>();
+        for (var i = 0; i < dtos.size(); i++) {
+            final var referenceAppointmentId = dtos.get(i).getReferenceAppointmentId();
+            final var errors = validationErrors.get(i);
+            results.add(errors.hasErrors()
+                    ? new OfficerTerminationResultDto(referenceAppointmentId, null, false,
+                            List.of(errorMapper.map(errors.getErrors())))
+                    : new OfficerTerminationResultDto(referenceAppointmentId, officerFilings.next(), true, null));
+        }
+        // Some of the terminations may have failed validation, and the body says which
+        final var status = validFilings.size() == dtos.size() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(results);
+    }
+
+    /**
+     * The filing DTO of a termination, holding only the details of a TM01.
+     */
+    private static OfficerFilingDto toFilingDto(final OfficerTerminationDto termination) {
+        return OfficerFilingDto.builder()
+                .referenceAppointmentId(termination.referenceAppointmentId())
+                .referenceEtag(termination.referenceEtag())
+                .resignedOn(termination.resignedOn())
+                .build();
+    }
+
+    /**
+     * Check the request body of a bulk request holds between one and {@code maxBatchSize} valid
+     * filings.
+     *
+     * @param dtos          the request body payload DTOs
+     * @param bindingResult the MVC binding result (with any validation errors)
+     * @param field         the name of the field of an error about the number of filings
+     * @param emptyMessage  the message of the error when there are no filings
+     * @return the filings
+     * @throws InvalidFilingException if a filing is invalid, or there are none or too many
+     */
+    private <T> List<T> checkBatch(final List<T> dtos, final BindingResult bindingResult,
+            final String field, final String emptyMessage) {
+        if (bindingResult != null && bindingResult.hasErrors()) {
+            throw new InvalidFilingException(bindingResult.getFieldErrors());
+        }
+        if (dtos.isEmpty()) {
+            throw new InvalidFilingException(List.of(
+                    new FieldError(OFFICER_FILING_NAME, field, emptyMessage)));
+        }
+        if (dtos.size() > maxBatchSize) {
+            throw new InvalidFilingException(List.of(
+                    new FieldError(OFFICER_FILING_NAME, field, "At most " + maxBatchSize
+                            + " can be created by one request")));
+        }
+        return dtos;
+    }
+
+    /**
+     * Check each officer is terminated once, by the request or by a filing already in the
+     * Transaction.
+     *
+     * @param dtos        the terminations requested
+     * @param transaction the Transaction
+     * @throws InvalidFilingException if an appointment ID is repeated in the request, or already
+     *                                has a filing in the transaction
+     */
+    private void checkAppointmentsNotFiled(final List<OfficerFilingDto> dtos, final Transaction transaction) {
+        final List<FieldError> errors = new ArrayList<>();
+        final Set<String> appointmentIds = new HashSet<>();
+        dtos.stream()
+                .map(OfficerFilingDto::getReferenceAppointmentId)
+                .filter(StringUtils::isNotBlank)
+                .filter(appointmentId -> !appointmentIds.add(appointmentId))
+                .distinct()
+                .forEach(appointmentId -> errors.add(appointmentIdError(appointmentId,
+                        "Officer is terminated more than once by the request")));
+
+        final var filingIds = getOfficerFilingIds(transaction);
+        if (!filingIds.isEmpty()) {
+            officerFilingService.getAll(filingIds, transaction.getId()).stream()
+                    .map(OfficerFiling::getData)
+                    .filter(Objects::nonNull)
+                    .map(OfficerFilingData::getReferenceAppointmentId)
+                    .filter(appointmentIds::contains)
+                    .distinct()
+                    .forEach(appointmentId -> errors.add(appointmentIdError(appointmentId,
+                            "Officer already has a filing in the transaction")));
+        }
+        if (!errors.isEmpty()) {
+            throw new InvalidFilingException(errors);
+        }
+    }
+
+    private static FieldError appointmentIdError(final String appointmentId, final String message) {
+        return new FieldError(OFFICER_FILING_NAME, "reference_appointment_id", appointmentId, false,
+                null, null, message);
+    }
+
+    /**
+     * Store new filings with a single bulk insert, and update the transaction once with all the new
+     * resources. The transaction adds the resources in the update to those it already has. The
+     * cached active directors of the company are then discarded, as they are about to change.
+     *
+     * @param filings           the new filings
+     * @param transaction       the Transaction
+     * @param request           the servlet request, posted to an endpoint of the filings collection
+     * @param endpoint          the last path segment of the request URI
+     * @param passthroughHeader ERIC pass through header for authorisation
+     * @return the stored filings, in the order given
+     */
+    private List<OfficerFiling> saveFilings(final List<OfficerFiling> filings, final Transaction transaction,
+            final HttpServletRequest request, final String endpoint, final String passthroughHeader) {
+        final var now = clock.instant();
+        final var collectionUri = StringUtils.removeEnd(request.getRequestURI(), "/" + endpoint);
+
+        // Allocate the ids up front so every filing is stored with its links by the one insert
+        final var entities = filings.stream().map(filing -> {
+            final var filingId = filingIdGenerator.get().toHexString();
+            return OfficerFiling.builder(filing)
+                    .id(filingId)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .links(buildLinks(filingId, collectionUri))
+                    .build();
+        }).toList();
+        final var officerFilings = officerFilingService.saveAll(entities, transaction.getId());
+        logger.infoContext(transaction.getId(), officerFilings.size() + " filings saved",
+                new LogHelper.Builder(transaction)
+                        .withRequest(request)
+                        .build());
+
+        final Map<String, Resource> resourceMap = new HashMap<>();
+        officerFilings.forEach(officerFiling -> resourceMap.putAll(buildResourceMap(officerFiling.getLinks())));
+        transaction.setResources(resourceMap);
+        transactionService.updateTransaction(transaction, passthroughHeader);
+        officerService.invalidateListOfActiveDirectors(transaction.getCompanyNumber());
+        return officerFilings;
+    }
+
+    /**
+     * Patch an Officer Filing. If the request has an If-Match header, the filing is only updated if
+     * its ETag still matches, otherwise the response is PRECONDITION FAILED.
      *
      * @param transaction the Transaction
      * @param dto           the request body payload DTO
@@ -169,8 +424,22 @@ public class OfficerFilingControllerImpl implements OfficerFilingController {
                 request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader());
 
         String transId = transaction.getId();
-        // Get the current filing if it exists
-        var officerFilingOptional = officerFilingService.get(filingResourceId, transId);
+        final var description = StringUtils.defaultIfBlank(dto.getDescription(), transaction.getDescription());
+        final var versions = FilingETags.getIfMatchVersions(request);
+        if (isPatchInPlaceEnabled) {
+            validateTransactionLinkedToFiling(transaction, filingResourceId);
+            // Update the stored filing in place, so concurrent patches cannot overwrite each other
+            final var updated = officerFilingService.updateData(filingResourceId, filingMapper.map(dto),
+                    clock.instant(), versions, transId);
+            if (updated.isPresent()) {
+                updateTransactionResources(transaction, description, updated.get().getLinks(),
+                        passthroughHeader);
+                return FilingETags.withETag(ResponseEntity.ok(), updated.get()).body(updated.get());
+            }
+        }
+        // Get the current filing if it exists, reusing the one read by the ValidTransactionInterceptor
+        var officerFilingOptional = ValidTransactionInterceptor.getOfficerFiling(request, filingResourceId)
+                .or(() -> officerFilingService.get(filingResourceId, transId));
         OfficerFiling officerFiling;
         // If it does, then update it with the patch data
         if(officerFilingOptional.isPresent()){
@@ -179,22 +448,37 @@ public class OfficerFilingControllerImpl implements OfficerFilingController {
             validateTransactionLinkedToFiling(transaction, filingResourceId);
 
             officerFiling = officerFilingOptional.get();
+            checkVersion(versions, officerFiling.getVersion());
+            // The merged filing keeps the version read, so saving it fails if the filing has changed since
             officerFiling = officerFilingService.mergeFilings(officerFiling, filingMapper.map(dto), transaction);
         }
         else{
             // Else just create a new filing
+            checkVersion(versions, null);
             officerFiling = filingMapper.map(dto);
         }
 
         final var saveDetails = saveFilingWithLinks(officerFiling, transaction, request);
-        final var links = saveDetails.getLeft();
-        final var resourceMap = buildResourceMap(links);
+        updateTransactionResources(transaction, description, saveDetails.getLeft(), passthroughHeader);
 
-        transaction.setResources(resourceMap);
-        transactionService.updateTransaction(transaction, passthroughHeader);
+        return FilingETags.withETag(ResponseEntity.ok(), saveDetails.getRight()).body(saveDetails.getRight());
 
-        return ResponseEntity.ok(saveDetails.getRight());
+    }
 
+    /**
+     * Update the description and the resource of a patched filing in the transaction. If the
+     * transaction already has both, so only the updated_at of the resource would change, the
+     * transaction is not updated.
+     */
+    private void updateTransactionResources(final Transaction transaction, final String description,
+            final Links links, final String passthroughHeader) {
+        final var resourceMap = buildResourceMap(links);
+        if (TransactionChanges.isUnchanged(transaction, description, resourceMap)) {
+            return;
+        }
+        transaction.setDescription(description);
+        transaction.setResources(resourceMap);
+        transactionService.updateTransaction(transaction, passthroughHeader);
     }
 
     /**
@@ -202,13 +486,16 @@ public class OfficerFilingControllerImpl implements OfficerFilingController {
      *
      * @param transId        the Transaction ID
      * @param filingResource the Officer Filing ID
-     * @return OK response containing Filing DTO resource
+     * @param request        the servlet request
+     * @return OK response containing Filing DTO resource, or NOT MODIFIED if the If-None-Match
+     *     header matches its ETag
      */
     @Override
     @GetMapping(value = "/{filingResourceId}", produces = {"application/json"})
     public ResponseEntity<OfficerFilingDto> getFilingForReview(
             @RequestAttribute(TRANSACTION) Transaction transaction,
-            @PathVariable(FILING_RESOURCE_ID) final String filingResourceId) {
+            @PathVariable(FILING_RESOURCE_ID) final String filingResourceId,
+            final HttpServletRequest request) {
 
         if(!isTm01Enabled){
             throw new FeatureNotEnabledException();
@@ -216,15 +503,24 @@ public class OfficerFilingControllerImpl implements OfficerFilingController {
 
         validateTransactionLinkedToFiling(transaction, filingResourceId);
 
-        var maybeOfficerFiling = officerFilingService.get(filingResourceId, transaction.getId());
-
-        var maybeDto = maybeOfficerFiling.map(filingMapper::map);
+        var maybeOfficerFiling = ValidTransactionInterceptor.getOfficerFiling(request, filingResourceId)
+                .or(() -> officerFilingService.get(filingResourceId, transaction.getId()));
 
-        return maybeDto.map(ResponseEntity::ok)
+        // An unchanged filing is neither mapped nor written again
+        return maybeOfficerFiling.map(officerFiling -> FilingETags.isNotModified(request, officerFiling)
+                        ? FilingETags.<OfficerFilingDto>notModified(officerFiling)
+                        : FilingETags.withETag(ResponseEntity.ok(), officerFiling).body(
+                                filingMapper.map(officerFiling)))
                 .orElse(ResponseEntity.notFound()
                         .build());
     }
 
+    private static void checkVersion(final List<Long> versions, final Long version) {
+        if (versions != null && (version == null || !versions.contains(version))) {
+            throw new OptimisticLockingFailureException("Officer filing does not match If-Match");
+        }
+    }
+
     private Map<String, Resource> buildResourceMap(final Links links) {
         final Map<String, Resource> resourceMap = new HashMap<>();
         final var resource = new Resource();
@@ -243,31 +539,31 @@ public class OfficerFilingControllerImpl implements OfficerFilingController {
             final HttpServletRequest request) {
         final var now = clock.instant();
         var createNow = now;
-        OfficerFiling entityWithCreatedUpdated;
         if(entity.getCreatedAt() != null){
             createNow = entity.getCreatedAt();
         }
-
-        final var create = createNow;
-        entityWithCreatedUpdated =
-                OfficerFiling.builder(entity).createdAt(create).updatedAt(now).data(entity.getData())
+        // Allocate the id up front so the links can be stored by the same write as the filing
+        final var filingId = Optional.ofNullable(entity.getId())
+                .orElseGet(() -> filingIdGenerator.get().toHexString());
+        final var links = buildLinks(filingId, request);
+
+        final var entityWithLinks =
+                OfficerFiling.builder(entity).id(filingId).createdAt(createNow).updatedAt(now)
+                        .data(entity.getData()).links(links)
                         .build();
-        final var finalEntityWithCreatedUpdated = entityWithCreatedUpdated;
-        final var saved = officerFilingService.save(finalEntityWithCreatedUpdated, transaction.getId());
-        final var links = buildLinks(saved.getId(), request);
-
-        final var updated = OfficerFiling.builder(saved).links(links)
-                .build();
-        final var resaved = officerFilingService.save(updated, transaction.getId());
+        final var saved = officerFilingService.save(entityWithLinks, transaction.getId());
         logger.infoContext(transaction.getId(), "Filing saved", new LogHelper.Builder(transaction)
-                        .withFilingId(resaved.getId())
+                        .withFilingId(saved.getId())
                         .withRequest(request)
                         .build());
-        return new ImmutablePair<>(links, resaved);
+        return new ImmutablePair<>(links, saved);
     }
 
     private Links buildLinks(final String savedFilingId, final HttpServletRequest request) {
-        final var requestUri = request.getRequestURI();
+        return buildLinks(savedFilingId, request.getRequestURI());
+    }
+
+    private Links buildLinks(final String savedFilingId, final String requestUri) {
         final var uriBuilder = UriComponentsBuilder.fromUriString(requestUri);
         final var objectId = new ObjectId(Objects.requireNonNull(savedFilingId));
         final var objectIdString = objectId.toHexString();
@@ -283,17 +579,34 @@ public class OfficerFilingControllerImpl implements OfficerFilingController {
         return new Links(selfUri, validateUri);
     }
 
-    private String getExistingFilingId(Transaction transaction){
-        Map<String, Resource> resources = transaction.getResources();
-        String filingId = null;
-        if(resources != null && !resources.isEmpty()){
-            // There should only be one resource.
-            Resource entry = (Resource) resources.values().toArray()[0];
-            var resource = entry.getLinks().get(RESOURCE);
-            var resourcePath = new File(resource);
-            filingId = resourcePath.getName();
+    /**
+     * The IDs of the Officer Filings in a Transaction, taken from the links of its resources.
+     *
+     * @param transaction the Transaction
+     * @return the filing IDs, in the order of the resources
+     */
+    static List<String> getOfficerFilingIds(final Transaction transaction) {
+        if (transaction.getResources() == null) {
+            return List.of();
         }
-        return filingId;
+        return transaction.getResources().values().stream()
+                .filter(resource -> OFFICER_FILING.equals(resource.getKind()))
+                .map(resource -> resource.getLinks().get(RESOURCE))
+                .filter(Objects::nonNull)
+                .map(resourceLink -> StringUtils.substringAfterLast(resourceLink, "/"))
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * The ID of the Officer Filing in a Transaction that holds only one.
+     *
+     * @param transaction the Transaction
+     * @return the filing ID, or null if the transaction holds no filing or several
+     */
+    private static String getExistingFilingId(final Transaction transaction) {
+        final var filingIds = getOfficerFilingIds(transaction);
+        return filingIds.size() == 1 ? filingIds.get(0) : null;
     }
 
     private void validateTransactionLinkedToFiling(Transaction transaction, String filingResourceId) {
@@ -0,0 +1,40 @@
+package uk.gov.companieshouse.officerfiling.api.controller;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import uk.gov.companieshouse.api.model.transaction.Resource;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+
+/**
+ * Checks whether an update of a transaction would change anything other than the
+ * {@code updated_at} of its resources.
+ */
+final class TransactionChanges {
+
+    private TransactionChanges() {
+    }
+
+    /**
+     * @param transaction the transaction as last read from the transactions API
+     * @param description the description the update would set
+     * @param resources   the resources the update would set; the transactions API adds them to
+     *                    those it already has
+     * @return true if the transaction already has the description and the resources, apart from
+     *     their updated_at
+     */
+    static boolean isUnchanged(final Transaction transaction, final String description,
+            final Map<String, Resource> resources) {
+        if (!Objects.equals(transaction.getDescription(), description)) {
+            return false;
+        }
+        final var current = Optional.ofNullable(transaction.getResources()).orElse(Map.of());
+        return resources.entrySet().stream().allMatch(entry -> {
+            final var resource = entry.getValue();
+            final var currentResource = current.get(entry.getKey());
+            return currentResource != null
+                    && Objects.equals(currentResource.getKind(), resource.getKind())
+                    && Objects.equals(currentResource.getLinks(), resource.getLinks());
+        });
+    }
+}
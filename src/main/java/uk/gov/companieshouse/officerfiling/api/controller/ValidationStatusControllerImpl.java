@@ -10,64 +10,57 @@ import org.springframework.web.bind.annotation.RestController;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusResponse;
 import uk.gov.companieshouse.logging.Logger;
-import uk.gov.companieshouse.officerfiling.api.enumerations.ApiEnumerations;
 import uk.gov.companieshouse.officerfiling.api.error.ApiErrors;
 import uk.gov.companieshouse.officerfiling.api.exception.FeatureNotEnabledException;
 import uk.gov.companieshouse.officerfiling.api.exception.ResourceNotFoundException;
+import uk.gov.companieshouse.officerfiling.api.interceptor.ValidTransactionInterceptor;
 import uk.gov.companieshouse.officerfiling.api.model.dto.OfficerFilingDto;
 import uk.gov.companieshouse.officerfiling.api.model.mapper.ErrorMapper;
 import uk.gov.companieshouse.officerfiling.api.model.mapper.OfficerFilingMapper;
-import uk.gov.companieshouse.officerfiling.api.service.CompanyAppointmentService;
-import uk.gov.companieshouse.officerfiling.api.service.CompanyProfileService;
 import uk.gov.companieshouse.officerfiling.api.service.OfficerFilingService;
 import uk.gov.companieshouse.officerfiling.api.utils.LogHelper;
-import uk.gov.companieshouse.officerfiling.api.validation.AddressValidator;
 import uk.gov.companieshouse.officerfiling.api.validation.OfficerAppointmentValidator;
 import uk.gov.companieshouse.officerfiling.api.validation.OfficerTerminationValidator;
 import uk.gov.companieshouse.officerfiling.api.validation.OfficerUpdateValidator;
+import uk.gov.companieshouse.officerfiling.api.validation.OfficerValidator;
 import uk.gov.companieshouse.sdk.manager.ApiSdkManager;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/transactions/{transactionId}/officers")
 public class ValidationStatusControllerImpl implements ValidationStatusController {
     private final OfficerFilingService officerFilingService;
     private final Logger logger;
-    private final CompanyProfileService companyProfileService;
-    private final CompanyAppointmentService companyAppointmentService;
     private final OfficerFilingMapper officerFilingMapper;
     private final ErrorMapper errorMapper;
-    private final ApiEnumerations apiEnumerations;
+    private final OfficerTerminationValidator officerTerminationValidator;
+    private final OfficerAppointmentValidator officerAppointmentValidator;
+    private final OfficerUpdateValidator officerUpdateValidator;
     @Value("${FEATURE_FLAG_ENABLE_TM01:true}")
     private boolean isTm01Enabled;
     @Value("${FEATURE_FLAG_ENABLE_AP01:true}")
     private boolean isAp01Enabled;
     @Value("${FEATURE_FLAG_ENABLE_CH01:false}")
     private boolean isCh01Enabled;
-    @Value("${NATIONALITY_LIST}")
-    public String inputAllowedNationalities;
-    @Value("#{'${COUNTRY_LIST}'.split(';')}")
-    private List<String> countryList;
-    @Value("#{'${UK_COUNTRY_LIST}'.split(';')}")
-    private List<String> ukCountryList;
 
     public ValidationStatusControllerImpl(OfficerFilingService officerFilingService, Logger logger,
-                                          CompanyProfileService companyProfileService,
-                                          CompanyAppointmentService companyAppointmentService, OfficerFilingMapper officerFilingMapper,
-                                          ErrorMapper errorMapper, ApiEnumerations apiEnumerations) {
+                                          OfficerFilingMapper officerFilingMapper, ErrorMapper errorMapper,
+                                          OfficerTerminationValidator officerTerminationValidator,
+                                          OfficerAppointmentValidator officerAppointmentValidator,
+                                          OfficerUpdateValidator officerUpdateValidator) {
         this.officerFilingService = officerFilingService;
         this.logger = logger;
-        this.companyProfileService = companyProfileService;
-        this.companyAppointmentService = companyAppointmentService;
         this.officerFilingMapper = officerFilingMapper;
         this.errorMapper = errorMapper;
-        this.apiEnumerations = apiEnumerations;
+        this.officerTerminationValidator = officerTerminationValidator;
+        this.officerAppointmentValidator = officerAppointmentValidator;
+        this.officerUpdateValidator = officerUpdateValidator;
     }
 
     /**
      * Controller endpoint: Perform final validation checks.
      * Provisional behaviour: return TRUE response until details of requirements known.
+     * Nothing is stored: the filing data of a valid filing is generated and stored with it by the
+     * first request for it from the private filings endpoint.
      *
      * @param transaction      the Transaction
      * @param filingResourceId the Filing resource ID
@@ -91,7 +84,8 @@ public class ValidationStatusControllerImpl implements ValidationStatusControlle
                 .build());
 
         final var passthroughHeader = request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader());
-        final var officerFiling = officerFilingService.get(filingResourceId, transaction.getId())
+        final var officerFiling = ValidTransactionInterceptor.getOfficerFiling(request, filingResourceId)
+                .or(() -> officerFilingService.get(filingResourceId, transaction.getId()))
                 .orElseThrow(() -> new ResourceNotFoundException("Filing resource not found: " + filingResourceId));
 
         final ApiErrors validationErrors = validate(request, officerFilingMapper.map(officerFiling), transaction, passthroughHeader);
@@ -103,35 +97,34 @@ public class ValidationStatusControllerImpl implements ValidationStatusControlle
     }
 
     /**
-     * Create the associated OfficerValidator object (TM01, AP01, or CH01) and validate using that object
+     * Validate using the OfficerValidator (TM01, AP01, or CH01) associated with the filing
      *
      * @return All validation errors raised during the validation
      */
     ApiErrors validate(HttpServletRequest request, OfficerFilingDto officerFiling, Transaction transaction, String passthroughHeader) {
-        final var addressValidator = new AddressValidator(logger, companyProfileService, inputAllowedNationalities, apiEnumerations, countryList, ukCountryList);
+        return selectValidator(officerFiling).validate(request, officerFiling, transaction, passthroughHeader);
+    }
+
+    /**
+     * Select the OfficerValidator for the kind of filing: a resignation date marks a TM01, a filing
+     * without a reference etag is an AP01, and anything else is a CH01.
+     *
+     * @throws FeatureNotEnabledException if the selected filing type is disabled
+     */
+    OfficerValidator selectValidator(OfficerFilingDto officerFiling) {
         if (officerFiling.getResignedOn() != null) {
-            if (isTm01Enabled) {
-                return new OfficerTerminationValidator(logger, companyProfileService, companyAppointmentService, inputAllowedNationalities, apiEnumerations)
-                        .validate(request, officerFiling, transaction, passthroughHeader);
-            } else {
-                throw new FeatureNotEnabledException();
-            }
+            return enabledOrThrow(isTm01Enabled, officerTerminationValidator);
         }
-
         if (officerFiling.getReferenceEtag() == null) {
-            if (isAp01Enabled) {
-                return new OfficerAppointmentValidator(logger, companyProfileService, apiEnumerations, inputAllowedNationalities, countryList, ukCountryList)
-                        .validate(request, officerFiling, transaction, passthroughHeader);
-            } else {
-                throw new FeatureNotEnabledException();
-            }
+            return enabledOrThrow(isAp01Enabled, officerAppointmentValidator);
         }
+        return enabledOrThrow(isCh01Enabled, officerUpdateValidator);
+    }
 
-        if (isCh01Enabled) {
-            return new OfficerUpdateValidator(logger, companyAppointmentService, companyProfileService, inputAllowedNationalities, apiEnumerations, addressValidator)
-                    .validate(request, officerFiling, transaction, passthroughHeader);
-        } else {
+    private static OfficerValidator enabledOrThrow(boolean isEnabled, OfficerValidator validator) {
+        if (!isEnabled) {
             throw new FeatureNotEnabledException();
         }
+        return validator;
     }
 }
@@ -12,6 +12,7 @@ import java.util.stream.Collectors;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -41,6 +42,7 @@ import uk.gov.companieshouse.officerfiling.api.utils.LogHelper;
  *     <li>{@link InvalidFilingException}</li>
  *     <li>{@link ResourceNotFoundException}</li>
  *     <li>{@link TransactionServiceException}</li>
+ *     <li>{@link OptimisticLockingFailureException}, when a filing has changed since it was read</li>
  *     <li>other {@link RuntimeException}</li>
  *     <li>other internal exceptions</li>
  * </ul>
@@ -147,6 +149,18 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         return new ApiErrors(errorList);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    @ResponseBody
+    public ApiErrors handleOptimisticLockingFailureException(
+            final OptimisticLockingFailureException ex, final WebRequest request) {
+        final var error = new ApiError(ex.getMessage(), getRequestURI(request),
+                LocationType.RESOURCE.getValue(), ErrorType.SERVICE.getType());
+
+        final var errorList = List.of(error);
+        logError(request, "Officer filing modified concurrently", ex, errorList);
+        return new ApiErrors(errorList);
+    }
 
     @ExceptionHandler(RuntimeException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
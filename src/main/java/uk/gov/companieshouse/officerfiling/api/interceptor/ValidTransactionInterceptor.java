@@ -1,6 +1,7 @@
 package uk.gov.companieshouse.officerfiling.api.interceptor;
 
 import java.util.Map;
+import java.util.Optional;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.StringUtils;
@@ -10,8 +11,15 @@ import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.HandlerMapping;
 
 import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.officerfiling.api.model.entity.OfficerFiling;
 import uk.gov.companieshouse.officerfiling.api.service.OfficerFilingService;
 
+import static uk.gov.companieshouse.officerfiling.api.utils.Constants.OFFICER_FILING_KEY;
+
+/**
+ * Checks that the filing in the request path exists and belongs to the transaction in the path.
+ * The filing read for the check is kept as a request attribute, see {@link #getOfficerFiling}.
+ */
 public class ValidTransactionInterceptor implements HandlerInterceptor {
 
     private final Logger logger;
@@ -58,6 +66,22 @@ public class ValidTransactionInterceptor implements HandlerInterceptor {
             return false;
         }
 
+        request.setAttribute(OFFICER_FILING_KEY, officerFiling.get());
         return true;
     }
+
+    /**
+     * Return the filing this interceptor read for the request, so a handler need not read it again.
+     *
+     * @param request  the servlet request
+     * @param filingId the Filing ID
+     * @return the filing, or empty if the interceptor did not read this filing for the request
+     */
+    public static Optional<OfficerFiling> getOfficerFiling(HttpServletRequest request, String filingId) {
+        if (request.getAttribute(OFFICER_FILING_KEY) instanceof OfficerFiling officerFiling
+                && filingId.equals(officerFiling.getId())) {
+            return Optional.of(officerFiling);
+        }
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,27 @@
+package uk.gov.companieshouse.officerfiling.api.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+/**
+ * The request body of a bulk request: a JSON array of Officer Filings. Validating the list
+ * validates each filing in it, and rejects a null filing.
+ */
+public class OfficerFilingDtoList {
+
+    @NotNull
+    private final List<@Valid @NotNull OfficerFilingDto> filings;
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public OfficerFilingDtoList(final List<OfficerFilingDto> filings) {
+        this.filings = filings;
+    }
+
+    @JsonValue
+    public List<OfficerFilingDto> getFilings() {
+        return filings;
+    }
+}
@@ -0,0 +1,15 @@
+package uk.gov.companieshouse.officerfiling.api.model.dto;
+
+import java.time.LocalDate;
+
+/**
+ * One termination of a bulk termination request. Only the details of a TM01 are bound, so no other
+ * officer details can be stored by the filing created for it.
+ *
+ * @param referenceAppointmentId the appointment ID of the officer to terminate
+ * @param referenceEtag          the etag of the appointment the termination refers to
+ * @param resignedOn             the date the officer resigned
+ */
+public record OfficerTerminationDto(String referenceAppointmentId, String referenceEtag,
+                                    LocalDate resignedOn) {
+}
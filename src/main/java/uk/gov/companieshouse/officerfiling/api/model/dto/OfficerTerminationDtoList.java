@@ -0,0 +1,27 @@
+package uk.gov.companieshouse.officerfiling.api.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+/**
+ * The request body of a bulk termination request: a JSON array of terminations. Validating the
+ * list rejects a null termination.
+ */
+public class OfficerTerminationDtoList {
+
+    @NotNull
+    private final List<@Valid @NotNull OfficerTerminationDto> terminations;
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public OfficerTerminationDtoList(final List<OfficerTerminationDto> terminations) {
+        this.terminations = terminations;
+    }
+
+    @JsonValue
+    public List<OfficerTerminationDto> getTerminations() {
+        return terminations;
+    }
+}
@@ -0,0 +1,18 @@
+package uk.gov.companieshouse.officerfiling.api.model.dto;
+
+import java.util.List;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
+import uk.gov.companieshouse.officerfiling.api.model.entity.OfficerFiling;
+
+/**
+ * The result of one termination of a bulk termination request: the filing created for a valid
+ * termination, or the validation errors of an invalid one.
+ *
+ * @param referenceAppointmentId the appointment ID of the terminated officer
+ * @param filing                 the filing created, or null if the termination is invalid
+ * @param isValid                true if the termination is valid
+ * @param errors                 the validation errors, or null if the termination is valid
+ */
+public record OfficerTerminationResultDto(String referenceAppointmentId, OfficerFiling filing,
+                                          boolean isValid, List<ValidationStatusError> errors) {
+}
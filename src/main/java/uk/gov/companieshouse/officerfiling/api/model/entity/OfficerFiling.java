@@ -1,8 +1,11 @@
 package uk.gov.companieshouse.officerfiling.api.model.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
+import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -24,6 +27,13 @@ public class OfficerFiling {
     private Links links;
     private OfficerFilingData data;
     private Instant updatedAt;
+    // Incremented by every save; exposed as the ETag header rather than in the body
+    @Version
+    @JsonIgnore
+    private Long version;
+    // The filing data generated from this version of the filing, once it has been validated
+    @JsonIgnore
+    private FilingApi filingApi;
 
     private OfficerFiling() {
     }
@@ -56,6 +66,14 @@ public class OfficerFiling {
         return updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public FilingApi getFilingApi() {
+        return filingApi;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -89,6 +107,7 @@ public class OfficerFiling {
                 .add("links=" + links)
                 .add("data='" + data + "'")
                 .add("updatedAt=" + updatedAt)
+                .add("version=" + version)
                 .toString();
     }
 
@@ -116,7 +135,9 @@ public class OfficerFiling {
                     .kind(other.getKind())
                     .links(other.getLinks())
                     .data(other.getData())
-                    .updatedAt(other.getUpdatedAt());
+                    .updatedAt(other.getUpdatedAt())
+                    .version(other.getVersion())
+                    .filingApi(other.getFilingApi());
         }
 
         public Builder id(final String value) {
@@ -210,6 +231,18 @@ public class OfficerFiling {
             return this;
         }
 
+        public Builder version(final Long value) {
+
+            buildSteps.add(buildData -> buildData.version = value);
+            return this;
+        }
+
+        public Builder filingApi(final FilingApi value) {
+
+            buildSteps.add(buildData -> buildData.filingApi = value);
+            return this;
+        }
+
         public OfficerFiling build() {
             final var officerFiling = new OfficerFiling();
             buildSteps.forEach(s -> s.accept(officerFiling));
@@ -21,6 +21,8 @@ public interface OfficerFilingMapper {
     @Mapping(target = "kind", ignore = true)
     @Mapping(target = "links", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "filingApi", ignore = true)
     @Mapping(target = "data.serviceAddress", source = "serviceAddress")
     @Mapping(target = "data.serviceAddressBackLink", source = "serviceAddressBackLink")
     @Mapping(target = "data.serviceManualAddressBackLink", source = "serviceManualAddressBackLink")
@@ -0,0 +1,119 @@
+package uk.gov.companieshouse.officerfiling.api.model.mapper;
+
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.officerfiling.api.model.entity.OfficerFiling;
+import uk.gov.companieshouse.officerfiling.api.model.entity.OfficerFilingData;
+
+/**
+ * Merges a partial (PATCH) Officer Filing onto a stored one, field by field.
+ * <p>
+ * Every non-null property of the patch replaces the corresponding original property; null patch
+ * properties leave the original value in place. Nested values ({@code identification}, the
+ * addresses and {@code officerPreviousDetails}) are replaced as a whole, and {@code links} are
+ * never carried over as they are rebuilt when the merged filing is saved. The original
+ * {@code version} is kept so that saving the merged filing fails if the original has since changed,
+ * while the original {@code filingApi} is dropped as it no longer matches the merged filing.
+ * </p>
+ */
+@Component
+public class OfficerFilingMerger {
+
+    /**
+     * Merge the contents of an Officer Filing patch into the original record.
+     *
+     * @param original the base record
+     * @param patch    a record with updated values
+     * @return a new merged record, without links
+     */
+    public OfficerFiling merge(final OfficerFiling original, final OfficerFiling patch) {
+        return OfficerFiling.builder()
+                .id(pick(patch.getId(), original.getId()))
+                .createdAt(pick(patch.getCreatedAt(), original.getCreatedAt()))
+                .identification(pick(patch.getIdentification(), original.getIdentification()))
+                .kind(pick(patch.getKind(), original.getKind()))
+                .data(mergeData(original.getData(), patch.getData()))
+                .updatedAt(pick(patch.getUpdatedAt(), original.getUpdatedAt()))
+                .version(original.getVersion())
+                .build();
+    }
+
+    private OfficerFilingData mergeData(final OfficerFilingData original,
+            final OfficerFilingData patch) {
+        if (patch == null || original == null) {
+            return patch == null ? original : patch;
+        }
+        return OfficerFilingData.builder()
+                .serviceAddress(pick(patch.getServiceAddress(), original.getServiceAddress()))
+                .serviceAddressBackLink(pick(patch.getServiceAddressBackLink(),
+                        original.getServiceAddressBackLink()))
+                .serviceManualAddressBackLink(pick(patch.getServiceManualAddressBackLink(),
+                        original.getServiceManualAddressBackLink()))
+                .protectedDetailsBackLink(pick(patch.getProtectedDetailsBackLink(),
+                        original.getProtectedDetailsBackLink()))
+                .isServiceAddressSameAsRegisteredOfficeAddress(
+                        pick(patch.getIsServiceAddressSameAsRegisteredOfficeAddress(),
+                                original.getIsServiceAddressSameAsRegisteredOfficeAddress()))
+                .appointedOn(pick(patch.getAppointedOn(), original.getAppointedOn()))
+                .countryOfResidence(pick(patch.getCountryOfResidence(),
+                        original.getCountryOfResidence()))
+                .dateOfBirth(pick(patch.getDateOfBirth(), original.getDateOfBirth()))
+                .formerNames(pick(patch.getFormerNames(), original.getFormerNames()))
+                .name(pick(patch.getName(), original.getName()))
+                .title(pick(patch.getTitle(), original.getTitle()))
+                .firstName(pick(patch.getFirstName(), original.getFirstName()))
+                .middleNames(pick(patch.getMiddleNames(), original.getMiddleNames()))
+                .lastName(pick(patch.getLastName(), original.getLastName()))
+                .nationality1(pick(patch.getNationality1(), original.getNationality1()))
+                .nationality2(pick(patch.getNationality2(), original.getNationality2()))
+                .nationality3(pick(patch.getNationality3(), original.getNationality3()))
+                .occupation(pick(patch.getOccupation(), original.getOccupation()))
+                .officerRole(pick(patch.getOfficerRole(), original.getOfficerRole()))
+                .referenceEtag(pick(patch.getReferenceEtag(), original.getReferenceEtag()))
+                .referenceAppointmentId(pick(patch.getReferenceAppointmentId(),
+                        original.getReferenceAppointmentId()))
+                .referenceOfficerListEtag(pick(patch.getReferenceOfficerListEtag(),
+                        original.getReferenceOfficerListEtag()))
+                .resignedOn(pick(patch.getResignedOn(), original.getResignedOn()))
+                .status(pick(patch.getStatus(), original.getStatus()))
+                .residentialAddress(pick(patch.getResidentialAddress(),
+                        original.getResidentialAddress()))
+                .residentialAddressBackLink(pick(patch.getResidentialAddressBackLink(),
+                        original.getResidentialAddressBackLink()))
+                .residentialManualAddressBackLink(pick(patch.getResidentialManualAddressBackLink(),
+                        original.getResidentialManualAddressBackLink()))
+                .isHomeAddressSameAsServiceAddress(pick(patch.getIsHomeAddressSameAsServiceAddress(),
+                        original.getIsHomeAddressSameAsServiceAddress()))
+                .corporateDirector(pick(patch.getCorporateDirector(),
+                        original.getCorporateDirector()))
+                .nationality2Link(pick(patch.getNationality2Link(), original.getNationality2Link()))
+                .nationality3Link(pick(patch.getNationality3Link(), original.getNationality3Link()))
+                .directorAppliedToProtectDetails(pick(patch.getDirectorAppliedToProtectDetails(),
+                        original.getDirectorAppliedToProtectDetails()))
+                .consentToAct(pick(patch.getConsentToAct(), original.getConsentToAct()))
+                .checkYourAnswersLink(pick(patch.getCheckYourAnswersLink(),
+                        original.getCheckYourAnswersLink()))
+                .directorResidentialAddressChoice(pick(patch.getDirectorResidentialAddressChoice(),
+                        original.getDirectorResidentialAddressChoice()))
+                .directorServiceAddressChoice(pick(patch.getDirectorServiceAddressChoice(),
+                        original.getDirectorServiceAddressChoice()))
+                .officerPreviousDetails(pick(patch.getOfficerPreviousDetails(),
+                        original.getOfficerPreviousDetails()))
+                .directorsDetailsChangedDate(pick(patch.getDirectorsDetailsChangedDate(),
+                        original.getDirectorsDetailsChangedDate()))
+                .nameHasBeenUpdated(pick(patch.getNameHasBeenUpdated(),
+                        original.getNameHasBeenUpdated()))
+                .nationalityHasBeenUpdated(pick(patch.getNationalityHasBeenUpdated(),
+                        original.getNationalityHasBeenUpdated()))
+                .occupationHasBeenUpdated(pick(patch.getOccupationHasBeenUpdated(),
+                        original.getOccupationHasBeenUpdated()))
+                .serviceAddressHasBeenUpdated(pick(patch.getServiceAddressHasBeenUpdated(),
+                        original.getServiceAddressHasBeenUpdated()))
+                .residentialAddressHasBeenUpdated(pick(patch.getResidentialAddressHasBeenUpdated(),
+                        original.getResidentialAddressHasBeenUpdated()))
+                .build();
+    }
+
+    private static <T> T pick(final T patchValue, final T originalValue) {
+        return patchValue != null ? patchValue : originalValue;
+    }
+}
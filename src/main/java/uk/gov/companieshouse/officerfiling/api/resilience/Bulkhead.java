@@ -0,0 +1,113 @@
+package uk.gov.companieshouse.officerfiling.api.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import uk.gov.companieshouse.officerfiling.api.exception.ServiceUnavailableException;
+
+/**
+ * Limits the calls made to a downstream API at once and how long a caller waits for one, so a slow
+ * API cannot tie up every request thread.
+ * <p>
+ * Each call runs on its own virtual thread. A call made while {@code maxConcurrentCalls} calls are
+ * still running is rejected straight away, and a caller waiting longer than {@code timeout} is
+ * given up on; both throw {@link ServiceUnavailableException}. A call that was given up on is
+ * interrupted, but keeps its place until it actually returns.
+ * </p>
+ * <p>
+ * Running calls are published as {@code bulkhead.active.calls} and calls that were not answered as
+ * {@code bulkhead.calls}, tagged with the name and {@code result=rejected|timeout}.
+ * </p>
+ *
+ * @param <V> the type of the call results
+ */
+public class Bulkhead<V> {
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final long timeoutMillis;
+    private final Semaphore permits;
+    private final Counter rejections;
+    private final Counter timeouts;
+
+    public Bulkhead(final String name, final int maxConcurrentCalls, final Duration timeout,
+            final MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.timeoutMillis = timeout.toMillis();
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.rejections = calls(meterRegistry, "rejected");
+        this.timeouts = calls(meterRegistry, "timeout");
+        Gauge.builder("bulkhead.active.calls", this, Bulkhead::activeCalls)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Make a call if there is room for it, waiting no longer than the timeout for its result.
+     *
+     * @param call makes the call; any exception it throws is passed to the caller
+     * @return the result of the call
+     * @throws ServiceUnavailableException if the bulkhead is full or the call timed out
+     */
+    public V execute(final Supplier<V> call) {
+        if (!permits.tryAcquire()) {
+            rejections.increment();
+            throw new ServiceUnavailableException("The service is down. Try again later");
+        }
+        final var task = new FutureTask<V>(call::get);
+        try {
+            Thread.ofVirtual().name("bulkhead-" + name).start(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (final RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+        try {
+            return task.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            timeouts.increment();
+            task.cancel(true);
+            throw new ServiceUnavailableException("The service is down. Try again later");
+        } catch (final InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("The service is down. Try again later");
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int activeCalls() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+
+    private Counter calls(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("bulkhead.calls")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
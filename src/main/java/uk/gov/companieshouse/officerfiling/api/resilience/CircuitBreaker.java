@@ -0,0 +1,145 @@
+package uk.gov.companieshouse.officerfiling.api.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Supplier;
+import uk.gov.companieshouse.officerfiling.api.exception.ServiceUnavailableException;
+
+/**
+ * Stops calling a downstream API that keeps failing, so requests fail fast instead of waiting on
+ * it. A call fails when it throws {@link ServiceUnavailableException}; any other outcome means the
+ * API answered, even if with an error.
+ * <p>
+ * After {@code failureThreshold} consecutive failures the circuit opens and every call is rejected
+ * with a {@link ServiceUnavailableException} without being made. Once {@code openDuration} has
+ * passed the circuit is half open: a single trial call is let through, closing the circuit if it
+ * succeeds and opening it again if it fails. A failure threshold of zero disables the breaker.
+ * </p>
+ * <p>
+ * Calls are counted as {@code circuitbreaker.calls}, tagged with the name and
+ * {@code result=success|failure|rejected}, and the state is published as
+ * {@code circuitbreaker.state} (0 closed, 1 open, 2 half open).
+ * </p>
+ *
+ * @param <V> the type of the call results
+ */
+public class CircuitBreaker<V> {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Clock clock;
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter rejections;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(final String name, final int failureThreshold,
+            final Duration openDuration, final Clock clock, final MeterRegistry meterRegistry) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+        this.clock = clock;
+        this.successes = calls(meterRegistry, "success");
+        this.failures = calls(meterRegistry, "failure");
+        this.rejections = calls(meterRegistry, "rejected");
+        Gauge.builder("circuitbreaker.state", this, breaker -> breaker.getState().ordinal())
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Make a call unless the circuit is open.
+     *
+     * @param call makes the call; any exception it throws is passed to the caller
+     * @return the result of the call
+     * @throws ServiceUnavailableException if the circuit is open or the call failed
+     */
+    public V execute(final Supplier<V> call) {
+        if (failureThreshold <= 0) {
+            return call.get();
+        }
+        if (!tryAcquirePermission()) {
+            rejections.increment();
+            throw new ServiceUnavailableException("The service is down. Try again later");
+        }
+        try {
+            final var result = call.get();
+            onSuccess();
+            return result;
+        } catch (final ServiceUnavailableException e) {
+            onFailure();
+            throw e;
+        } catch (final RuntimeException | Error e) {
+            onSuccess();
+            throw e;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && clock.millis() - openedAt >= openMillis) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    private synchronized boolean tryAcquirePermission() {
+        state = getState();
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && !trialInFlight) {
+            trialInFlight = true;
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized void onSuccess() {
+        successes.increment();
+        // a call made before the circuit opened does not close it
+        if (state != State.OPEN) {
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            trialInFlight = false;
+        }
+    }
+
+    private synchronized void onFailure() {
+        failures.increment();
+        if (state == State.OPEN) {
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.millis();
+            trialInFlight = false;
+        }
+    }
+
+    private Counter calls(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("circuitbreaker.calls")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,34 @@
+package uk.gov.companieshouse.officerfiling.api.resilience;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint to view the state of the circuit breakers in front of the downstream APIs.
+ * Like any actuator endpoint it is only reachable once enabled and exposed through the management
+ * properties.
+ */
+@Component
+@Endpoint(id = "circuitbreakers")
+public class CircuitBreakersEndpoint {
+
+    private final List<CircuitBreaker<?>> circuitBreakers;
+
+    public CircuitBreakersEndpoint(final List<CircuitBreaker<?>> circuitBreakers) {
+        this.circuitBreakers = circuitBreakers;
+    }
+
+    @ReadOperation
+    public Map<String, CircuitBreakerStatus> circuitBreakers() {
+        return circuitBreakers.stream().collect(Collectors.toMap(CircuitBreaker::getName,
+                breaker -> new CircuitBreakerStatus(breaker.getState(),
+                        breaker.getConsecutiveFailures())));
+    }
+
+    public record CircuitBreakerStatus(CircuitBreaker.State state, int consecutiveFailures) {
+    }
+}
@@ -0,0 +1,177 @@
+package uk.gov.companieshouse.officerfiling.api.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import uk.gov.companieshouse.officerfiling.api.exception.ServiceUnavailableException;
+
+/**
+ * Cuts the tail latency of a downstream API by hedging: when a call has not returned within the
+ * {@code percentile} (for example 95) of the last {@value #LATENCY_SAMPLES} call latencies, a
+ * duplicate call is made and whichever answers first is used. The caller only sees an exception if
+ * both calls fail.
+ * <p>
+ * Hedges are limited to {@code budgetPercent} of calls: every call earns that share of a hedge, and
+ * a hedge is only made once a whole one has been earned. No call is hedged until enough latencies
+ * have been recorded to estimate the percentile, and a budget of zero disables hedging.
+ * </p>
+ * <p>
+ * Calls and hedges are counted as {@code hedging.calls} and {@code hedging.hedges}, and their ratio
+ * is published as {@code hedging.rate}, all tagged with the name.
+ * </p>
+ *
+ * @param <V> the type of the call results
+ */
+public class Hedging<V> {
+
+    static final int LATENCY_SAMPLES = 100;
+    static final int MIN_LATENCY_SAMPLES = 20;
+    private static final double MAX_HEDGE_TOKENS = 10;
+
+    private final String name;
+    private final double percentile;
+    private final double tokensPerCall;
+    private final ExecutorService executor;
+    private final Counter calls;
+    private final Counter hedges;
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private int latencyCount;
+    private int nextLatency;
+    private double hedgeTokens;
+
+    public Hedging(final String name, final double percentile, final double budgetPercent,
+            final MeterRegistry meterRegistry) {
+        this.name = name;
+        this.percentile = percentile;
+        this.tokensPerCall = budgetPercent / 100;
+        this.executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("hedging-" + name + "-", 0).factory());
+        this.calls = Counter.builder("hedging.calls")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.hedges = Counter.builder("hedging.hedges")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("hedging.rate", this, Hedging::hedgeRate)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Make a call, hedging it if it is slow and the budget allows.
+     *
+     * @param call makes the call; called a second time for a hedge, so it must be safe to repeat
+     * @return the result of whichever call returned first
+     */
+    public V execute(final Supplier<V> call) {
+        if (tokensPerCall <= 0) {
+            return call.get();
+        }
+        calls.increment();
+        final long hedgeDelayNanos = earnHedgeToken();
+        final var result = new CompletableFuture<V>();
+        final var attempts = new AtomicInteger(1);
+        final var primary = attempt(call, result, attempts);
+        try {
+            if (hedgeDelayNanos < 0) {
+                return result.get();
+            }
+            try {
+                return result.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+            } catch (final TimeoutException e) {
+                if (!trySpendHedgeToken()) {
+                    return result.get();
+                }
+                hedges.increment();
+                attempts.incrementAndGet();
+                final var hedge = attempt(call, result, attempts);
+                try {
+                    return result.get();
+                } finally {
+                    primary.cancel(true);
+                    hedge.cancel(true);
+                }
+            }
+        } catch (final InterruptedException e) {
+            primary.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("The service is down. Try again later");
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double hedgeRate() {
+        final var callCount = calls.count();
+        return callCount == 0 ? 0 : hedges.count() / callCount;
+    }
+
+    /**
+     * Make one attempt of a call. The first attempt to succeed completes the result; the result
+     * only fails once every attempt made has failed.
+     */
+    private Future<?> attempt(final Supplier<V> call,
+            final CompletableFuture<V> result, final AtomicInteger attempts) {
+        return executor.submit(() -> {
+            final var start = System.nanoTime();
+            try {
+                final var value = call.get();
+                recordLatency(System.nanoTime() - start);
+                result.complete(value);
+            } catch (final RuntimeException | Error e) {
+                if (attempts.decrementAndGet() == 0) {
+                    result.completeExceptionally(e);
+                }
+            }
+        });
+    }
+
+    /**
+     * @return the delay before hedging, or -1 if there are too few latencies to estimate it
+     */
+    private synchronized long earnHedgeToken() {
+        hedgeTokens = Math.min(MAX_HEDGE_TOKENS, hedgeTokens + tokensPerCall);
+        if (latencyCount < MIN_LATENCY_SAMPLES) {
+            return -1;
+        }
+        final var sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        final var index = (int) Math.ceil(percentile / 100 * latencyCount) - 1;
+        return sorted[Math.max(0, Math.min(index, latencyCount - 1))];
+    }
+
+    private synchronized boolean trySpendHedgeToken() {
+        if (hedgeTokens < 1) {
+            return false;
+        }
+        hedgeTokens -= 1;
+        return true;
+    }
+
+    private synchronized void recordLatency(final long nanos) {
+        latencies[nextLatency] = nanos;
+        nextLatency = (nextLatency + 1) % LATENCY_SAMPLES;
+        latencyCount = Math.min(latencyCount + 1, LATENCY_SAMPLES);
+    }
+}
@@ -19,4 +19,24 @@ public interface CompanyAppointmentService {
                                                    final String ericPassThroughHeader)
             throws CompanyAppointmentServiceException, ServiceUnavailableException;
 
+    /**
+     * Retrieve a company appointment for a filing that refers to a known version of it. An
+     * appointment fetched recently is reused while its etag still matches the filing's reference
+     * etag; otherwise it is fetched again.
+     * <p>
+     * The appointment returned may be shared with other callers and must not be modified.
+     * </p>
+     *
+     * @param companyNumber the Company Number
+     * @param appointmentId the Appointment ID
+     * @param referenceEtag the etag of the appointment the filing refers to, may be null
+     * @param ericPassThroughHeader includes authorisation for company appointment fetch
+     * @return the appointment if found
+     * @throws CompanyAppointmentServiceException if Transaction not found or an error occurred
+     * @throws ServiceUnavailableException if Company Appointments API is unavailable
+     */
+    AppointmentFullRecordAPI getCompanyAppointment(String transactionId, String companyNumber, String appointmentId,
+                                                   String referenceEtag, final String ericPassThroughHeader)
+            throws CompanyAppointmentServiceException, ServiceUnavailableException;
+
 }
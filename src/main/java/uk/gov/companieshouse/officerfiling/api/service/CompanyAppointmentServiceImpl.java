@@ -7,8 +7,13 @@ import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.model.delta.officers.AppointmentFullRecordAPI;
 import uk.gov.companieshouse.api.sdk.ApiClientService;
 import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.officerfiling.api.cache.ExpiringCache;
+import uk.gov.companieshouse.officerfiling.api.cache.SingleFlight;
 import uk.gov.companieshouse.officerfiling.api.exception.CompanyAppointmentServiceException;
 import uk.gov.companieshouse.officerfiling.api.exception.ServiceUnavailableException;
+import uk.gov.companieshouse.officerfiling.api.resilience.Bulkhead;
+import uk.gov.companieshouse.officerfiling.api.resilience.CircuitBreaker;
+import uk.gov.companieshouse.officerfiling.api.resilience.Hedging;
 import uk.gov.companieshouse.officerfiling.api.utils.LogHelper;
 
 @Service
@@ -16,14 +21,30 @@ public class CompanyAppointmentServiceImpl implements CompanyAppointmentService{
 
     private final ApiClientService apiClientService;
     private final Logger logger;
+    private final ExpiringCache<AppointmentFullRecordAPI> companyAppointmentCache;
+    private final SingleFlight<AppointmentFullRecordAPI> companyAppointmentCalls;
+    private final CircuitBreaker<AppointmentFullRecordAPI> companyAppointmentCircuitBreaker;
+    private final Bulkhead<AppointmentFullRecordAPI> companyAppointmentBulkhead;
+    private final Hedging<AppointmentFullRecordAPI> companyAppointmentHedging;
 
-    public CompanyAppointmentServiceImpl(ApiClientService apiClientService, Logger logger) {
+    public CompanyAppointmentServiceImpl(ApiClientService apiClientService, Logger logger,
+            ExpiringCache<AppointmentFullRecordAPI> companyAppointmentCache,
+            SingleFlight<AppointmentFullRecordAPI> companyAppointmentCalls,
+            CircuitBreaker<AppointmentFullRecordAPI> companyAppointmentCircuitBreaker,
+            Bulkhead<AppointmentFullRecordAPI> companyAppointmentBulkhead,
+            Hedging<AppointmentFullRecordAPI> companyAppointmentHedging) {
         this.apiClientService = apiClientService;
         this.logger = logger;
+        this.companyAppointmentCache = companyAppointmentCache;
+        this.companyAppointmentCalls = companyAppointmentCalls;
+        this.companyAppointmentCircuitBreaker = companyAppointmentCircuitBreaker;
+        this.companyAppointmentBulkhead = companyAppointmentBulkhead;
+        this.companyAppointmentHedging = companyAppointmentHedging;
     }
 
     /**
-     * Query the company appointment service for a given transaction.
+     * Query the company appointment service for a given transaction. The appointment is always
+     * fetched and is not shared with other callers.
      *
      * @param companyNumber the Company Number
      * @param appointmentId the Appointment ID
@@ -35,6 +56,46 @@ public class CompanyAppointmentServiceImpl implements CompanyAppointmentService{
     @Override
     public AppointmentFullRecordAPI getCompanyAppointment(String transactionId, String companyNumber, String appointmentId,
                                                           final String ericPassThroughHeader) throws CompanyAppointmentServiceException {
+        return fetchCompanyAppointment(transactionId, companyNumber, appointmentId, ericPassThroughHeader);
+    }
+
+    /**
+     * Query the company appointment service for a given transaction, reusing the appointment
+     * fetched for the same company and appointment ID while its etag matches the filing's. A
+     * filing without a reference etag always fetches, though concurrent fetches of the same
+     * appointment share one query.
+     *
+     * @param companyNumber the Company Number
+     * @param appointmentId the Appointment ID
+     * @param referenceEtag the etag of the appointment the filing refers to, may be null
+     * @param ericPassThroughHeader includes authorisation for company appointment fetch
+     * @return the appointment if found
+     * @throws CompanyAppointmentServiceException if not found or an error occurred
+     * @throws ServiceUnavailableException if Company Appointments API is unavailable
+     */
+    @Override
+    public AppointmentFullRecordAPI getCompanyAppointment(String transactionId, String companyNumber, String appointmentId,
+                                                          String referenceEtag, final String ericPassThroughHeader)
+            throws CompanyAppointmentServiceException {
+        return companyAppointmentCache.get(companyNumber + "/" + appointmentId,
+                cached -> referenceEtag != null && referenceEtag.equals(cached.getEtag()),
+                key -> companyAppointmentCalls.execute(key,
+                        () -> fetchCompanyAppointment(transactionId, companyNumber, appointmentId, ericPassThroughHeader)));
+    }
+
+    /**
+     * Queries are limited by a bulkhead and stop while the circuit breaker is open. A slow query may
+     * be hedged with a second one, which also has to get through the bulkhead.
+     */
+    private AppointmentFullRecordAPI fetchCompanyAppointment(String transactionId, String companyNumber,
+                                                             String appointmentId, final String ericPassThroughHeader) {
+        return companyAppointmentCircuitBreaker.execute(() -> companyAppointmentHedging.execute(
+                () -> companyAppointmentBulkhead.execute(
+                        () -> callCompanyAppointment(transactionId, companyNumber, appointmentId, ericPassThroughHeader))));
+    }
+
+    private AppointmentFullRecordAPI callCompanyAppointment(String transactionId, String companyNumber,
+                                                            String appointmentId, final String ericPassThroughHeader) {
         try {
             final String uri = "/company/" + companyNumber + "/appointments/" + appointmentId + "/full_record";
             final AppointmentFullRecordAPI companyAppointment =
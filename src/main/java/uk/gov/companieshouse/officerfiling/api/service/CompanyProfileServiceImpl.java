@@ -8,8 +8,12 @@ import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.api.sdk.ApiClientService;
 import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.officerfiling.api.cache.ExpiringCache;
+import uk.gov.companieshouse.officerfiling.api.cache.SingleFlight;
 import uk.gov.companieshouse.officerfiling.api.exception.CompanyProfileServiceException;
 import uk.gov.companieshouse.officerfiling.api.exception.ServiceUnavailableException;
+import uk.gov.companieshouse.officerfiling.api.resilience.Bulkhead;
+import uk.gov.companieshouse.officerfiling.api.resilience.CircuitBreaker;
 import uk.gov.companieshouse.officerfiling.api.utils.LogHelper;
 
 @Service
@@ -17,14 +21,29 @@ public class CompanyProfileServiceImpl implements CompanyProfileService {
 
     private final ApiClientService apiClientService;
     private final Logger logger;
+    private final ExpiringCache<CompanyProfileApi> companyProfileCache;
+    private final SingleFlight<CompanyProfileApi> companyProfileCalls;
+    private final CircuitBreaker<CompanyProfileApi> companyProfileCircuitBreaker;
+    private final Bulkhead<CompanyProfileApi> companyProfileBulkhead;
 
-    public CompanyProfileServiceImpl(ApiClientService apiClientService, Logger logger) {
+    public CompanyProfileServiceImpl(ApiClientService apiClientService, Logger logger,
+            ExpiringCache<CompanyProfileApi> companyProfileCache,
+            SingleFlight<CompanyProfileApi> companyProfileCalls,
+            CircuitBreaker<CompanyProfileApi> companyProfileCircuitBreaker,
+            Bulkhead<CompanyProfileApi> companyProfileBulkhead) {
         this.apiClientService = apiClientService;
         this.logger = logger;
+        this.companyProfileCache = companyProfileCache;
+        this.companyProfileCalls = companyProfileCalls;
+        this.companyProfileCircuitBreaker = companyProfileCircuitBreaker;
+        this.companyProfileBulkhead = companyProfileBulkhead;
     }
 
     /**
-     * Query the company profile service for a given transaction.
+     * Query the company profile service for a given transaction. Profiles are cached by company
+     * number, so a recently fetched profile may be returned without querying the service, and
+     * concurrent requests for the same profile share one query. Queries are limited by a bulkhead
+     * and stop while the circuit breaker is open.
      *
      * @param transactionId the ID of the related transaction
      * @param companyNumber the Company Number
@@ -36,6 +55,18 @@ public class CompanyProfileServiceImpl implements CompanyProfileService {
     @Override
     public CompanyProfileApi getCompanyProfile(final String transactionId, final String companyNumber, final String ericPassThroughHeader)
             throws CompanyProfileServiceException {
+        return companyProfileCache.get(companyNumber, key -> companyProfileCalls.execute(key,
+                () -> fetchCompanyProfile(transactionId, key, ericPassThroughHeader)));
+    }
+
+    private CompanyProfileApi fetchCompanyProfile(final String transactionId, final String companyNumber,
+            final String ericPassThroughHeader) {
+        return companyProfileCircuitBreaker.execute(() -> companyProfileBulkhead.execute(
+                () -> callCompanyProfile(transactionId, companyNumber, ericPassThroughHeader)));
+    }
+
+    private CompanyProfileApi callCompanyProfile(final String transactionId, final String companyNumber,
+            final String ericPassThroughHeader) {
         try {
             final String uri = "/company/" + companyNumber;
             final CompanyProfileApi companyProfile = apiClientService.getInternalApiClient(ericPassThroughHeader)
@@ -1,6 +1,7 @@
 package uk.gov.companieshouse.officerfiling.api.service;
 
 import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
+import uk.gov.companieshouse.officerfiling.api.model.entity.OfficerFiling;
 
 /**
  * Produces Filing Data format for consumption as JSON by filing-resource-handler external service.
@@ -16,4 +17,27 @@ public interface FilingDataService {
      * @return the FilingApi resource
      */
     FilingApi generateOfficerFiling(String transactionId, String filingId, String ericPassThroughHeader);
+
+    /**
+     * Create FilingApi data from an Officer Filing resource already retrieved.
+     *
+     * @param transactionId the Transaction ID
+     * @param officerFiling the Officer Filing
+     * @param ericPassThroughHeader includes authorisation for company appointment fetch
+     * @return the FilingApi resource
+     */
+    FilingApi generateOfficerFiling(String transactionId, OfficerFiling officerFiling,
+            String ericPassThroughHeader);
+
+    /**
+     * Get the FilingApi data stored with an Officer Filing resource, or generate it and store it
+     * with the filing for later requests.
+     *
+     * @param transactionId the Transaction ID
+     * @param officerFiling the Officer Filing
+     * @param ericPassThroughHeader includes authorisation for company appointment fetch
+     * @return the FilingApi resource
+     */
+    FilingApi storeOfficerFiling(String transactionId, OfficerFiling officerFiling,
+            String ericPassThroughHeader);
 }
@@ -1,6 +1,7 @@
 package uk.gov.companieshouse.officerfiling.api.service;
 
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.api.model.delta.officers.AppointmentFullRecordAPI;
 import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
@@ -60,9 +61,48 @@ public class FilingDataServiceImpl implements FilingDataService {
      */
     @Override
     public FilingApi generateOfficerFiling(String transactionId, String filingId, String ericPassThroughHeader) {
-        final var filing = new FilingApi();
         final var officerFiling = officerFilingService.get(filingId, transactionId)
                 .orElseThrow(() -> new IllegalStateException(String.format("Officer not found when generating filing for %s", filingId)));
+        return generateOfficerFiling(transactionId, officerFiling, ericPassThroughHeader);
+    }
+
+    /**
+     * Return the FilingApi data stored with the filing, or generate it and store it with the filing.
+     * Failing to store it is logged rather than thrown, as it can always be generated again.
+     *
+     * @param transactionId         the Transaction ID
+     * @param officerFiling         the Officer Filing
+     * @param ericPassThroughHeader includes authorisation for company appointment fetch
+     * @return the FilingApi data for JSON response
+     */
+    @Override
+    public FilingApi storeOfficerFiling(String transactionId, OfficerFiling officerFiling, String ericPassThroughHeader) {
+        if (officerFiling.getFilingApi() != null) {
+            return officerFiling.getFilingApi();
+        }
+        final var filingApi = generateOfficerFiling(transactionId, officerFiling, ericPassThroughHeader);
+        try {
+            officerFilingService.saveFilingApi(officerFiling.getId(), officerFiling.getVersion(), filingApi, transactionId);
+        } catch (DataAccessException e) {
+            logger.errorContext(transactionId, "Failed to store filing data", e, new LogHelper.Builder(transactionId)
+                    .withFilingId(officerFiling.getId())
+                    .build());
+        }
+        return filingApi;
+    }
+
+    /**
+     * Generate FilingApi data enriched by names and date of birth from company-appointments API.
+     *
+     * @param transactionId         the Transaction ID
+     * @param officerFiling         the Officer Filing
+     * @param ericPassThroughHeader includes authorisation for company appointment fetch
+     * @return the FilingApi data for JSON response
+     */
+    @Override
+    public FilingApi generateOfficerFiling(String transactionId, OfficerFiling officerFiling, String ericPassThroughHeader) {
+        final var filing = new FilingApi();
+        final var filingId = officerFiling.getId();
         final var presentOfficerFilingData = officerFiling.getData();
 
         if (presentOfficerFilingData.getResignedOn() != null) {
@@ -94,7 +134,7 @@ public class FilingDataServiceImpl implements FilingDataService {
         String companyNumber = transaction.getCompanyNumber();
         String appointmentId = officerFiling.getData().getReferenceAppointmentId();
         final AppointmentFullRecordAPI companyAppointment = companyAppointmentService.getCompanyAppointment(transactionId, companyNumber,
-                appointmentId, ericPassThroughHeader);
+                appointmentId, officerFiling.getData().getReferenceEtag(), ericPassThroughHeader);
         String surname;
         var middleNames = "";
         var firstname = "";
@@ -163,7 +203,8 @@ public class FilingDataServiceImpl implements FilingDataService {
     private void setUpdateFilingApiData(FilingApi filing, String transactionId, String filingId, String ericPassThroughHeader, OfficerFiling officerFiling) {
         final var data = officerFiling.getData();
         final var transaction = transactionService.getTransaction(transactionId, ericPassThroughHeader);
-        final var appointment = companyAppointmentService.getCompanyAppointment(transactionId, transaction.getCompanyNumber(), data.getReferenceAppointmentId(), ericPassThroughHeader);
+        final var appointment = companyAppointmentService.getCompanyAppointment(transactionId, transaction.getCompanyNumber(), data.getReferenceAppointmentId(),
+                data.getReferenceEtag(), ericPassThroughHeader);
         final var dateOfBirth = LocalDate.of(appointment.getDateOfBirth().getYear(), appointment.getDateOfBirth().getMonth(), appointment.getDateOfBirth().getDay());
 
         var dataBuilder = OfficerFilingData.builder()
@@ -1,6 +1,9 @@
 package uk.gov.companieshouse.officerfiling.api.service;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.officerfiling.api.model.entity.OfficerFiling;
 
@@ -10,7 +13,17 @@ import uk.gov.companieshouse.officerfiling.api.model.entity.OfficerFiling;
 public interface OfficerFilingService {
     OfficerFiling save(OfficerFiling filing, String transactionId);
 
+    List<OfficerFiling> saveAll(List<OfficerFiling> filings, String transactionId);
+
     Optional<OfficerFiling> get(String officerFilingId, String transactionId);
 
+    List<OfficerFiling> getAll(List<String> officerFilingIds, String transactionId);
+
+    Optional<OfficerFiling> updateData(String officerFilingId, OfficerFiling patch, Instant updatedAt,
+            List<Long> versions, String transactionId);
+
+    boolean saveFilingApi(String officerFilingId, Long version, FilingApi filingApi,
+            String transactionId);
+
     OfficerFiling mergeFilings(OfficerFiling original, OfficerFiling patch, Transaction transaction);
 }
@@ -1,21 +1,26 @@
 package uk.gov.companieshouse.officerfiling.api.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.PropertyNamingStrategies;
-import com.fasterxml.jackson.databind.json.JsonMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.logging.Logger;
-import uk.gov.companieshouse.officerfiling.api.exception.OfficerFilingServiceException;
 import uk.gov.companieshouse.officerfiling.api.model.entity.OfficerFiling;
+import uk.gov.companieshouse.officerfiling.api.model.mapper.OfficerFilingMerger;
 import uk.gov.companieshouse.officerfiling.api.repository.OfficerFilingRepository;
 import uk.gov.companieshouse.officerfiling.api.utils.LogHelper;
-import uk.gov.companieshouse.officerfiling.api.utils.MapHelper;
 
 /**
  * Store/retrieve Officer Filing entities using the persistence layer.
@@ -23,26 +28,56 @@ import uk.gov.companieshouse.officerfiling.api.utils.MapHelper;
 @Service
 public class OfficerFilingServiceImpl implements OfficerFilingService {
     private final OfficerFilingRepository repository;
+    private final MongoOperations mongoOperations;
+    private final OfficerFilingMerger merger;
     private final Logger logger;
 
-    public OfficerFilingServiceImpl(final OfficerFilingRepository repository, Logger logger) {
+    public OfficerFilingServiceImpl(final OfficerFilingRepository repository,
+            final MongoOperations mongoOperations, final OfficerFilingMerger merger, Logger logger) {
         this.repository = repository;
+        this.mongoOperations = mongoOperations;
+        this.merger = merger;
         this.logger = logger;
     }
 
     /**
      * Store an OfficerFiling entity in persistence layer.
+     * <p>
+     * A filing read with a version is only saved if the stored filing still has that version,
+     * otherwise an {@link OptimisticLockingFailureException} is thrown. A filing without a version
+     * is inserted, or replaces a stored filing with the same ID that has no version either, such as
+     * one stored before filings had versions. A filing without a version never replaces one with a
+     * version; an {@link OptimisticLockingFailureException} is thrown instead.
+     * </p>
      *
      * @param filing        the OfficerFiling entity to store
      * @param transactionId the associated Transaction ID
-     * @return the stored entity
+     * @return the stored entity, with its new version
      */
     @Override
     public OfficerFiling save(final OfficerFiling filing, final String transactionId) {
         logger.debugContext(transactionId, "Saving officer filing", new LogHelper.Builder(transactionId)
                 .withFilingId(filing.getId())
                 .build());
-        return repository.save(filing);
+        try {
+            return repository.save(filing);
+        } catch (final DuplicateKeyException e) {
+            return replace(filing);
+        }
+    }
+
+    /**
+     * Store new OfficerFiling entities in the persistence layer with a single bulk insert.
+     *
+     * @param filings       the new OfficerFiling entities, each with its Filing ID allocated
+     * @param transactionId the associated Transaction ID
+     * @return the stored entities, with their initial versions
+     */
+    @Override
+    public List<OfficerFiling> saveAll(final List<OfficerFiling> filings, final String transactionId) {
+        logger.debugContext(transactionId, "Saving " + filings.size() + " officer filings",
+                new LogHelper.Builder(transactionId).build());
+        return repository.insert(filings);
     }
 
     /**
@@ -60,6 +95,80 @@ public class OfficerFilingServiceImpl implements OfficerFilingService {
         return repository.findById(officerFilingId);
     }
 
+    /**
+     * Retrieve the stored OfficerFiling entities with the given Filing IDs in a single query.
+     *
+     * @param officerFilingIds the Filing IDs
+     * @param transactionId    the associated Transaction ID
+     * @return the stored entities found, in no particular order
+     */
+    @Override
+    public List<OfficerFiling> getAll(final List<String> officerFilingIds, final String transactionId) {
+        logger.debugContext(transactionId, "Getting " + officerFilingIds.size() + " officer filings",
+                new LogHelper.Builder(transactionId).build());
+        return repository.findAllById(officerFilingIds);
+    }
+
+    /**
+     * Apply the non-null data fields of an OfficerFiling patch to a stored entity with a single
+     * atomic update, without reading it first. As with {@link #mergeFilings}, nested values such as
+     * addresses replace the stored value as a whole; the identification is replaced if present. Any
+     * stored filing data is discarded, as it no longer matches the filing.
+     *
+     * @param officerFilingId the Filing ID
+     * @param patch           a record with updated values
+     * @param updatedAt       the new updated at time
+     * @param versions        the versions the stored filing may have, or null for any version
+     * @param transactionId   the associated Transaction ID
+     * @return the updated entity, or empty if there is no filing with the ID and one of the versions
+     */
+    @Override
+    public Optional<OfficerFiling> updateData(final String officerFilingId, final OfficerFiling patch,
+            final Instant updatedAt, final List<Long> versions, final String transactionId) {
+        logger.debugContext(transactionId, "Updating officer filing data", new LogHelper.Builder(transactionId)
+                .withFilingId(officerFilingId)
+                .build());
+        final var update = new Update().set("updatedAt", updatedAt).inc("version", 1).unset("filingApi");
+        if (patch.getIdentification() != null) {
+            update.set("identification", patch.getIdentification());
+        }
+        if (patch.getData() != null) {
+            // the converter skips null properties and applies the stored field names
+            final var data = new Document();
+            mongoOperations.getConverter().write(patch.getData(), data);
+            data.remove("_class");
+            data.forEach((field, value) -> update.set("data." + field, value));
+        }
+        final var criteria = Criteria.where("_id").is(officerFilingId);
+        if (versions != null) {
+            criteria.and("version").in(versions);
+        }
+        return Optional.ofNullable(mongoOperations.findAndModify(Query.query(criteria), update,
+                FindAndModifyOptions.options().returnNew(true), OfficerFiling.class));
+    }
+
+    /**
+     * Store the FilingApi data generated from a stored OfficerFiling entity with it, unless the
+     * entity has changed since it was read. Storing it leaves the version unchanged.
+     *
+     * @param officerFilingId the Filing ID
+     * @param version         the version the filing data was generated from
+     * @param filingApi       the filing data
+     * @param transactionId   the associated Transaction ID
+     * @return true if the filing data was stored
+     */
+    @Override
+    public boolean saveFilingApi(final String officerFilingId, final Long version,
+            final FilingApi filingApi, final String transactionId) {
+        logger.debugContext(transactionId, "Saving officer filing data", new LogHelper.Builder(transactionId)
+                .withFilingId(officerFilingId)
+                .build());
+        // Updating by collection name skips the version increment, so the field name is not mapped
+        final var query = Query.query(Criteria.where("_id").is(officerFilingId).and("version").is(version));
+        return mongoOperations.updateFirst(query, new Update().set("filing_api", filingApi),
+                mongoOperations.getCollectionName(OfficerFiling.class)).getModifiedCount() > 0;
+    }
+
     /**
      * Merges the contents of an OfficerFiling patch into the original record.
      * @param original The base record
@@ -71,44 +180,32 @@ public class OfficerFilingServiceImpl implements OfficerFilingService {
         logger.debugContext(transaction.getId(), "Patching filings", new LogHelper.Builder(transaction)
                 .withFilingId(original.getId())
                 .build());
-        HashMap<String,Object> fieldMap = new HashMap<>();
-        OfficerFiling mergedFiling;
-        // Get the current values of the original and patch filings, patch values will overwrite
-        // Original values
-        extractFields(original, fieldMap);
-        extractFields(patch, fieldMap);
-        // JavaTimeModule handles Instant serialisation
-        var mapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
-
-        try {
-            var updatedFilingJson = new ObjectMapper().writeValueAsString(fieldMap);
-            mergedFiling = mapper.readerFor(OfficerFiling.class).readValue(updatedFilingJson);
-        } catch (JsonProcessingException e) {
-            throw new OfficerFilingServiceException("Failed to patch an officer filing for company "
-                    + transaction.getCompanyNumber(), e);
-        }
-        return mergedFiling;
+        return merger.merge(original, patch);
     }
 
-    /**
-     * Extracts the fields from an OfficerFiling object and adds them to the given map
-     */
-    private void extractFields(OfficerFiling filing, HashMap<String,Object> fieldMap){
-        Map<String, Object> patchMap = MapHelper.convertObject(filing, PropertyNamingStrategies.LOWER_CAMEL_CASE);
-        // Convert the data object to a map
-        Map<String, Object> patchDataMap = MapHelper.convertObject(filing.getData(), PropertyNamingStrategies.LOWER_CAMEL_CASE);
-        // Merge the patch map with the existing map, if it exists
-        Map<String, Object> mergedDataMap = new HashMap<>();
-        Map<String, Object> originalDataMap = (Map<String, Object>) fieldMap.get("data");
-        if(originalDataMap != null){
-            mergedDataMap.putAll(originalDataMap);
-        }
-        mergedDataMap.putAll(patchDataMap);
-        fieldMap.putAll(patchMap);
-        fieldMap.put("data", mergedDataMap);
-        // Remove some extra entries here to avoid extra string comparisons during the merge
-        // These will be added to the record on load and cause issues when converting from JSON
-        fieldMap.remove("class");
-        fieldMap.remove("links");
+    private OfficerFiling replace(final OfficerFiling filing) {
+        final var converter = mongoOperations.getConverter();
+        final var document = new Document();
+        converter.write(filing, document);
+        // Set or unset every stored field, so the update replaces the filing as a whole
+        final var update = new Update().inc("version", 1);
+        converter.getMappingContext().getRequiredPersistentEntity(OfficerFiling.class)
+                .doWithProperties((PropertyHandler<MongoPersistentProperty>) property -> {
+                    final var field = property.getFieldName();
+                    if (property.isIdProperty() || property.isVersionProperty()) {
+                        return;
+                    }
+                    if (document.get(field) != null) {
+                        update.set(field, document.get(field));
+                    } else {
+                        update.unset(field);
+                    }
+                });
+        // Only a filing stored before filings had versions is replaced without knowing its version
+        final var query = Query.query(Criteria.where("_id").is(filing.getId()).and("version").exists(false));
+        return Optional.ofNullable(mongoOperations.findAndModify(query, update,
+                        FindAndModifyOptions.options().returnNew(true), OfficerFiling.class))
+                .orElseThrow(() -> new OptimisticLockingFailureException(
+                        "Officer filing " + filing.getId() + " has a version, so cannot be replaced without it"));
     }
 }
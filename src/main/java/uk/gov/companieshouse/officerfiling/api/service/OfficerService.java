@@ -24,4 +24,11 @@ public interface OfficerService {
         final String companyNumber, final String ericPassThroughHeader)
             throws OfficerServiceException, ServiceUnavailableException;
 
+    /**
+     * Discard the cached list of active Directors of a company, as one has been removed or
+     * appointed.
+     *
+     * @param companyNumber the company number
+     */
+    void invalidateListOfActiveDirectors(final String companyNumber);
 }
@@ -3,30 +3,47 @@ package uk.gov.companieshouse.officerfiling.api.service;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
+import uk.gov.companieshouse.api.handler.officers.request.OfficersList;
 import uk.gov.companieshouse.api.model.officers.CompanyOfficerApi;
 import uk.gov.companieshouse.api.model.officers.OfficersApi;
 import uk.gov.companieshouse.api.sdk.ApiClientService;
 import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.officerfiling.api.cache.ExpiringCache;
+import uk.gov.companieshouse.officerfiling.api.cache.SingleFlight;
 import uk.gov.companieshouse.officerfiling.api.exception.OfficerServiceException;
 import uk.gov.companieshouse.officerfiling.api.utils.LogHelper;
 
 @Service
 public class OfficerServiceImpl implements OfficerService {
 
+    static final int ITEMS_PER_PAGE = 100;
     private static final List<String> ALLOWED_OFFICER_ROLES = List.of("director", "corporate-director", "nominee-director", "corporate-nominee-director");
     private final ApiClientService apiClientService;
     private final Logger logger;
+    private final ExpiringCache<List<CompanyOfficerApi>> activeDirectorsCache;
+    private final SingleFlight<List<CompanyOfficerApi>> activeDirectorsCalls;
+    @Value("${OFFICERS_LIST_MAX_CONCURRENT_PAGES:4}")
+    private int maxConcurrentPages;
 
-    public OfficerServiceImpl(ApiClientService apiClientService, Logger logger) {
+    public OfficerServiceImpl(ApiClientService apiClientService, Logger logger,
+            ExpiringCache<List<CompanyOfficerApi>> activeDirectorsCache,
+            SingleFlight<List<CompanyOfficerApi>> activeDirectorsCalls) {
         this.apiClientService = apiClientService;
         this.logger = logger;
+        this.activeDirectorsCache = activeDirectorsCache;
+        this.activeDirectorsCalls = activeDirectorsCalls;
     }
 
     /**
-     * Retrieves list of active Directors
+     * Retrieves list of active Directors. The list is cached by company number for a short time.
      *
      * @param companyNumber the company number
      * @param request the HTTP request
@@ -40,21 +57,73 @@ public class OfficerServiceImpl implements OfficerService {
         final String companyNumber, final String ericPassThroughHeader)
         throws OfficerServiceException {
 
-            return getListOfActiveDirectors(
-                getOfficersList(transactionId, companyNumber, ericPassThroughHeader
-                ), request);
+            return activeDirectorsCache.get(companyNumber, key -> activeDirectorsCalls.execute(key,
+                    () -> getActiveDirectors(request, transactionId, companyNumber, ericPassThroughHeader)));
     }
 
-    private OfficersApi getOfficersList(final String transactionId, final String companyNumber, final String ericPassThroughHeader)
-            throws OfficerServiceException {
-        try {
-            final var uri = "/company/" + companyNumber + "/officers";
-            final var officersList = apiClientService.getInternalApiClient(ericPassThroughHeader)
-                            .officers()
-                            .list(uri);
+    /**
+     * Discard the cached list of active Directors of a company.
+     *
+     * @param companyNumber the company number
+     */
+    @Override
+    public void invalidateListOfActiveDirectors(final String companyNumber) {
+        activeDirectorsCache.invalidate(companyNumber);
+    }
 
-            officersList.addQueryParams("items_per_page", "100");
+    /**
+     * Page through the officers of a company, keeping only the active directors of each page. Once
+     * the first page gives the total number of officers, the remaining pages are fetched
+     * concurrently, each on its own virtual thread, with at most {@code maxConcurrentPages} in
+     * flight at once.
+     */
+    private List<CompanyOfficerApi> getActiveDirectors(final HttpServletRequest request, final String transactionId,
+            final String companyNumber, final String ericPassThroughHeader) throws OfficerServiceException {
+        final var firstPage = getOfficersPage(transactionId, companyNumber,
+                officersPageRequest(companyNumber, ericPassThroughHeader, 0));
+        final List<CompanyOfficerApi> directorsList = new ArrayList<>(getListOfActiveDirectors(firstPage, request));
+        final Number totalResults = firstPage.getTotalResults();
+        if (totalResults == null || totalResults.longValue() <= ITEMS_PER_PAGE) {
+            return directorsList;
+        }
 
+        final var permits = new Semaphore(Math.max(1, maxConcurrentPages));
+        final List<Future<List<CompanyOfficerApi>>> pages = new ArrayList<>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long startIndex = ITEMS_PER_PAGE; startIndex < totalResults.longValue(); startIndex += ITEMS_PER_PAGE) {
+                final var officersList = officersPageRequest(companyNumber, ericPassThroughHeader, startIndex);
+                pages.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return getListOfActiveDirectors(getOfficersPage(transactionId, companyNumber, officersList), request);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            // Pages are added in order, so the directors keep the order of the officers API
+            for (final var page : pages) {
+                directorsList.addAll(getPage(page, pages, companyNumber));
+            }
+        }
+        return directorsList;
+    }
+
+    private OfficersList officersPageRequest(final String companyNumber, final String ericPassThroughHeader,
+            final long startIndex) {
+        final var uri = "/company/" + companyNumber + "/officers";
+        final var officersList = apiClientService.getInternalApiClient(ericPassThroughHeader)
+                        .officers()
+                        .list(uri);
+
+        officersList.addQueryParams("items_per_page", String.valueOf(ITEMS_PER_PAGE));
+        officersList.addQueryParams("start_index", String.valueOf(startIndex));
+        return officersList;
+    }
+
+    private OfficersApi getOfficersPage(final String transactionId, final String companyNumber, final OfficersList officersList)
+            throws OfficerServiceException {
+        try {
             final var officersApi = officersList.execute()
                     .getData();
 
@@ -68,6 +137,27 @@ public class OfficerServiceImpl implements OfficerService {
         }
     }
 
+    /**
+     * Wait for a page of directors. If fetching the page failed, the pages still in flight are
+     * cancelled and the failure is rethrown.
+     */
+    private static List<CompanyOfficerApi> getPage(final Future<List<CompanyOfficerApi>> page,
+            final List<Future<List<CompanyOfficerApi>>> pages, final String companyNumber) {
+        try {
+            return page.get();
+        } catch (final ExecutionException e) {
+            pages.forEach(other -> other.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new OfficerServiceException("Error Retrieving list of officers for company: " + companyNumber, e);
+        } catch (final InterruptedException e) {
+            pages.forEach(other -> other.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new OfficerServiceException("Interrupted retrieving list of officers for company: " + companyNumber, e);
+        }
+    }
+
     private List<CompanyOfficerApi> getListOfActiveDirectors(OfficersApi officersList, HttpServletRequest request) {
         var directorsList = new ArrayList<CompanyOfficerApi>();
 
@@ -1,10 +1,17 @@
 package uk.gov.companieshouse.officerfiling.api.service;
 
 import static uk.gov.companieshouse.officerfiling.api.model.entity.Links.PREFIX_PRIVATE;
+import static uk.gov.companieshouse.officerfiling.api.utils.Constants.TRANSACTION_KEY;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.api.sdk.ApiClientService;
@@ -15,16 +22,34 @@ import uk.gov.companieshouse.officerfiling.api.utils.LogHelper;
 @Service
 public class TransactionServiceImpl implements TransactionService {
 
+    static final String TRANSACTION_MEMO_KEY = TransactionServiceImpl.class.getName() + ".memo";
+    static final String TRANSACTION_LOOKUPS_METRIC = "officerfiling.transaction.lookups";
+
     private final ApiClientService apiClientService;
     private final Logger logger;
+    private final Counter remoteLookups;
+    private final Counter memoLookups;
 
-    public TransactionServiceImpl(final ApiClientService apiClientService, Logger logger) {
+    public TransactionServiceImpl(final ApiClientService apiClientService, Logger logger,
+            final MeterRegistry meterRegistry) {
         this.apiClientService = apiClientService;
         this.logger = logger;
+        this.remoteLookups = Counter.builder(TRANSACTION_LOOKUPS_METRIC)
+                .description("Transaction lookups, by whether the transactions API was called")
+                .tag("source", "remote")
+                .register(meterRegistry);
+        this.memoLookups = Counter.builder(TRANSACTION_LOOKUPS_METRIC)
+                .description("Transaction lookups, by whether the transactions API was called")
+                .tag("source", "request")
+                .register(meterRegistry);
     }
 
     /**
      * Query the transaction service for a given transaction.
+     * <p>
+     * Within an HTTP request the transaction is only fetched once: the copy already loaded by the
+     * {@code TransactionInterceptor}, or by an earlier call to this method, is reused.
+     * </p>
      *
      * @param transactionId         the Transaction ID
      * @param ericPassThroughHeader includes authorisation for the transaction query 
@@ -35,6 +60,12 @@ public class TransactionServiceImpl implements TransactionService {
     @Override
     public Transaction getTransaction(final String transactionId,
             final String ericPassThroughHeader) throws TransactionServiceException {
+        final var requestAttributes = RequestContextHolder.getRequestAttributes();
+        final var memoised = getMemoisedTransaction(requestAttributes, transactionId);
+        if (memoised != null) {
+            memoLookups.increment();
+            return memoised;
+        }
         try {
             final var uri = "/transactions/" + transactionId;
             final var transaction =
@@ -43,8 +74,10 @@ public class TransactionServiceImpl implements TransactionService {
                             .get(uri)
                             .execute()
                             .getData();
+            remoteLookups.increment();
             logger.debugContext(transactionId, "Retrieved transaction details", new LogHelper.Builder(transaction)
                     .build());
+            memoiseTransaction(requestAttributes, transactionId, transaction);
             return transaction;
         }
         catch (final URIValidationException | IOException e) {
@@ -76,6 +109,8 @@ public class TransactionServiceImpl implements TransactionService {
             if (HttpStatus.NO_CONTENT.value() != resp.getStatusCode()) {
                 throw new IOException("Invalid Status Code received: " + resp.getStatusCode());
             }
+            memoiseTransaction(RequestContextHolder.getRequestAttributes(), transaction.getId(),
+                    transaction);
         }
         catch (final IOException | URIValidationException e) {
             throw new TransactionServiceException(
@@ -83,4 +118,41 @@ public class TransactionServiceImpl implements TransactionService {
         }
     }
 
+    private static Transaction getMemoisedTransaction(final RequestAttributes requestAttributes,
+            final String transactionId) {
+        if (requestAttributes == null || transactionId == null) {
+            return null;
+        }
+        final var memo = getMemo(requestAttributes);
+        if (memo != null && memo.containsKey(transactionId)) {
+            return memo.get(transactionId);
+        }
+        if (requestAttributes.getAttribute(TRANSACTION_KEY,
+                RequestAttributes.SCOPE_REQUEST) instanceof Transaction transaction
+                && transactionId.equals(transaction.getId())) {
+            return transaction;
+        }
+        return null;
+    }
+
+    private static void memoiseTransaction(final RequestAttributes requestAttributes,
+            final String transactionId, final Transaction transaction) {
+        if (requestAttributes == null || transactionId == null || transaction == null) {
+            return;
+        }
+        var memo = getMemo(requestAttributes);
+        if (memo == null) {
+            memo = new HashMap<>();
+            requestAttributes.setAttribute(TRANSACTION_MEMO_KEY, memo,
+                    RequestAttributes.SCOPE_REQUEST);
+        }
+        memo.put(transactionId, transaction);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Transaction> getMemo(final RequestAttributes requestAttributes) {
+        return (Map<String, Transaction>) requestAttributes.getAttribute(TRANSACTION_MEMO_KEY,
+                RequestAttributes.SCOPE_REQUEST);
+    }
+
 }
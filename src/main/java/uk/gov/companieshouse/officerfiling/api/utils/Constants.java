@@ -10,4 +10,8 @@ public class Constants {
 
     // URI path attributes
     public static final String TRANSACTION_ID_KEY = "transaction_id";
+
+    // Request attributes
+    public static final String TRANSACTION_KEY = "transaction";
+    public static final String OFFICER_FILING_KEY = "officerFiling";
 }
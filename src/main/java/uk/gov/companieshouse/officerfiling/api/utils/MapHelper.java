@@ -2,9 +2,11 @@ package uk.gov.companieshouse.officerfiling.api.utils;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class MapHelper {
 
@@ -12,26 +14,37 @@ public final class MapHelper {
         // intentionally blank
     }
 
-    private static ObjectMapper mapper = null;
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    /**
+     * One mapper per naming strategy. A mapper is never reconfigured once created, so it can be
+     * shared by concurrent requests without flushing its serializer caches. The strategies used by
+     * the API are created up front; any other strategy gets its own mapper on first use.
+     */
+    private static final Map<PropertyNamingStrategy, ObjectMapper> MAPPERS =
+            new ConcurrentHashMap<>(Map.of(
+                    PropertyNamingStrategies.LOWER_CAMEL_CASE,
+                    createMapper(PropertyNamingStrategies.LOWER_CAMEL_CASE),
+                    PropertyNamingStrategies.SNAKE_CASE,
+                    createMapper(PropertyNamingStrategies.SNAKE_CASE)));
 
     /**
      * Convert an Object into a Key/Value property map.
      *
      * @param obj the Object
+     * @param strategy the naming strategy for the map keys
      * @return a Map of property values
      */
     public static Map<String, Object> convertObject(Object obj, PropertyNamingStrategy strategy) {
-        if (mapper == null) {
-            mapper = new ObjectMapper().setPropertyNamingStrategy(
-                    strategy);
-            mapper.registerModule(new JavaTimeModule());
-        }
-        if (mapper.getPropertyNamingStrategy() != strategy){
-            mapper.setPropertyNamingStrategy(strategy);
-        }
-
-        return mapper.convertValue(obj, new TypeReference<>() {
-        });
+        return MAPPERS.computeIfAbsent(strategy, MapHelper::createMapper)
+                .convertValue(obj, MAP_TYPE);
+    }
+
+    private static ObjectMapper createMapper(final PropertyNamingStrategy strategy) {
+        return new ObjectMapper()
+                .setPropertyNamingStrategy(strategy)
+                .registerModule(new JavaTimeModule());
     }
 
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package uk.gov.companieshouse.officerfiling.api.validation;
 
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.error.ApiError;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.officerfiling.api.enumerations.ApiEnumerations;
@@ -15,18 +16,15 @@ import java.util.List;
  * A singular validator to perform validation rules on residential (home) and correspondence (service) addresses.
  * The validator methods are unaware of which type of address is being validated (ie premises validation has the same rules regardless of the type of address).
  */
+@Component
 public class AddressValidator extends OfficerValidator {
 
     private static final Integer LENGTH_20 = 20;
     private static final Integer LENGTH_50 = 50;
     private static final Integer LENGTH_200 = 200;
-    private final List<String> countryList;
-    private final List<String> ukCountryList;
 
-    public AddressValidator(Logger logger, CompanyProfileService companyProfileService, String inputAllowedNationalities, ApiEnumerations apiEnumerations, List<String> countryList, List<String> ukCountryList) {
-        super(logger, companyProfileService, inputAllowedNationalities, apiEnumerations);
-        this.countryList = countryList;
-        this.ukCountryList = ukCountryList;
+    public AddressValidator(Logger logger, CompanyProfileService companyProfileService, AllowedValues allowedValues, ApiEnumerations apiEnumerations) {
+        super(logger, companyProfileService, allowedValues, apiEnumerations);
     }
 
     /**
@@ -124,7 +122,7 @@ public class AddressValidator extends OfficerValidator {
         if (StringUtils.isBlank(country)) {
             createValidationError(request, errorList, addressErrorProvider.getCountryBlank());
         } else {
-            if (!countryList.stream().map(String::toLowerCase).toList().contains(country.toLowerCase())) {
+            if (!getAllowedValues().isAllowedCountry(country)) {
                 createValidationError(request, errorList, addressErrorProvider.getCountryInvalid());
             }
             if (!validateDtoFieldLength(country, LENGTH_50)) {
@@ -153,7 +151,7 @@ public class AddressValidator extends OfficerValidator {
     }
 
     private boolean isUkCountry(String country) {
-        return country != null && ukCountryList.stream().anyMatch(country::equalsIgnoreCase);
+        return getAllowedValues().isUkCountry(country);
     }
 
 }
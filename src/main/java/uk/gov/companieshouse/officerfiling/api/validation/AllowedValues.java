@@ -0,0 +1,42 @@
+package uk.gov.companieshouse.officerfiling.api.validation;
+
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The nationalities and countries an officer filing may use, parsed once from configuration and
+ * shared by every validator. Values are matched ignoring case.
+ */
+@Component
+public class AllowedValues {
+
+    private final CaseInsensitiveSet nationalities;
+    private final CaseInsensitiveSet countries;
+    private final CaseInsensitiveSet ukCountries;
+
+    /**
+     * @param nationalityList comma separated list of allowed nationalities
+     * @param countryList     allowed countries
+     * @param ukCountryList   countries that make up the UK
+     */
+    public AllowedValues(@Value("${NATIONALITY_LIST}") final String nationalityList,
+            @Value("#{'${COUNTRY_LIST}'.split(';')}") final List<String> countryList,
+            @Value("#{'${UK_COUNTRY_LIST}'.split(';')}") final List<String> ukCountryList) {
+        this.nationalities = CaseInsensitiveSet.of(List.of(nationalityList.split(",")));
+        this.countries = CaseInsensitiveSet.of(countryList);
+        this.ukCountries = CaseInsensitiveSet.of(ukCountryList);
+    }
+
+    public boolean isAllowedNationality(final String nationality) {
+        return nationalities.contains(nationality);
+    }
+
+    public boolean isAllowedCountry(final String country) {
+        return countries.contains(country);
+    }
+
+    public boolean isUkCountry(final String country) {
+        return ukCountries.contains(country);
+    }
+}
@@ -0,0 +1,74 @@
+package uk.gov.companieshouse.officerfiling.api.validation;
+
+import java.util.Collection;
+
+/**
+ * An immutable set of strings compared with {@link String#equalsIgnoreCase}. Values are hashed on
+ * their case-folded code points into an open-addressed table, so a lookup neither lower-cases nor
+ * otherwise copies the value being checked.
+ */
+final class CaseInsensitiveSet {
+
+    private final String[] table;
+    private final int mask;
+
+    private CaseInsensitiveSet(final String[] table) {
+        this.table = table;
+        this.mask = table.length - 1;
+    }
+
+    /**
+     * Create a set holding the given values. Values differing only by case are held once.
+     *
+     * @param values the values, not null
+     * @return the set
+     */
+    static CaseInsensitiveSet of(final Collection<String> values) {
+        // keep the table at most half full so probe sequences stay short
+        final var capacity = Integer.highestOneBit(Math.max(values.size(), 1) * 2 - 1) << 1;
+        final var set = new CaseInsensitiveSet(new String[capacity]);
+        values.forEach(set::add);
+        return set;
+    }
+
+    /**
+     * @param value the value to look up, may be null
+     * @return true if the set holds a value equal to this one, ignoring case
+     */
+    boolean contains(final String value) {
+        if (value == null) {
+            return false;
+        }
+        for (var i = hash(value) & mask; table[i] != null; i = (i + 1) & mask) {
+            if (table[i].equalsIgnoreCase(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(final String value) {
+        var i = hash(value) & mask;
+        while (table[i] != null) {
+            if (table[i].equalsIgnoreCase(value)) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        table[i] = value;
+    }
+
+    /**
+     * Hash consistent with {@link String#equalsIgnoreCase}: two values that compare equal ignoring
+     * case fold every code point to the same value.
+     */
+    private static int hash(final String value) {
+        var hash = 0;
+        for (var i = 0; i < value.length(); ) {
+            final var codePoint = value.codePointAt(i);
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(codePoint));
+            i += Character.charCount(codePoint);
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
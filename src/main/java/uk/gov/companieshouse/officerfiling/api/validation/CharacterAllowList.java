@@ -0,0 +1,50 @@
+package uk.gov.companieshouse.officerfiling.api.validation;
+
+import java.util.BitSet;
+import java.util.regex.Pattern;
+
+/**
+ * An immutable set of permitted characters, checked with a single scan over the input and no
+ * allocation. Built once from a regular expression of the form {@code ^[...]*$} by recording which
+ * characters of the Basic Multilingual Plane the expression accepts on their own.
+ */
+final class CharacterAllowList {
+
+    private final BitSet allowed;
+
+    private CharacterAllowList(final BitSet allowed) {
+        this.allowed = allowed;
+    }
+
+    /**
+     * Create an allow list holding every character matched by a repeated character class.
+     *
+     * @param regex a regular expression of the form {@code ^[...]*$}
+     * @return the characters the expression accepts
+     */
+    static CharacterAllowList fromRegex(final String regex) {
+        final var matcher = Pattern.compile(regex).matcher("");
+        final var allowed = new BitSet(Character.MAX_VALUE + 1);
+        for (var c = (int) Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            if (!Character.isSurrogate((char) c) && matcher.reset(String.valueOf((char) c)).matches()) {
+                allowed.set(c);
+            }
+        }
+        return new CharacterAllowList(allowed);
+    }
+
+    /**
+     * Check that every character of a value is permitted. An empty value is permitted.
+     *
+     * @param value the value to check, not null
+     * @return true if the value only contains permitted characters
+     */
+    boolean permits(final CharSequence value) {
+        for (var i = 0; i < value.length(); i++) {
+            if (!allowed.get(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
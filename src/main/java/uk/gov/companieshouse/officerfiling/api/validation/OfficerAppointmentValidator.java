@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.officerfiling.api.validation;
 
+import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.error.ApiError;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
@@ -24,6 +25,7 @@ import java.util.Optional;
  * Provides all validation that should be carried out when an officer is appointed. Fetches all data necessary to complete
  * the validation and generates a list of errors that can be sent back to the caller.
  */
+@Component
 public class OfficerAppointmentValidator extends OfficerValidator {
 
     private static final Integer AGE_16 = 16;
@@ -34,12 +36,11 @@ public class OfficerAppointmentValidator extends OfficerValidator {
     public OfficerAppointmentValidator(final Logger logger,
                                        final CompanyProfileService companyProfileService,
                                        final ApiEnumerations apiEnumerations,
-                                       final String inputAllowedNationalities,
-                                       final List<String> countryList,
-                                       final List<String> ukCountryList) {
-        super(logger, companyProfileService, inputAllowedNationalities, apiEnumerations);
+                                       final AllowedValues allowedValues,
+                                       final AddressValidator addressValidator) {
+        super(logger, companyProfileService, allowedValues, apiEnumerations);
         this.logger = logger;
-        this.addressValidator = new AddressValidator(logger, companyProfileService, inputAllowedNationalities, apiEnumerations, countryList, ukCountryList);
+        this.addressValidator = addressValidator;
     }
 
     /**
@@ -1,5 +1,7 @@
 package uk.gov.companieshouse.officerfiling.api.validation;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.error.ApiError;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.api.model.delta.officers.AppointmentFullRecordAPI;
@@ -18,21 +20,28 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 /**
  * Provides all validation that should be carried out when an officer is terminated. Fetches all data necessary to complete
  * the validation and generates a list of errors that can be sent back to the caller.
  */
+@Component
 public class OfficerTerminationValidator extends OfficerValidator {
 
     private final Logger logger;
+    @Value("${TERMINATIONS_MAX_CONCURRENT_FETCHES:4}")
+    private int maxConcurrentFetches;
 
     public OfficerTerminationValidator(final Logger logger,
                                        final CompanyProfileService companyProfileService,
                                        final CompanyAppointmentService companyAppointmentService,
-                                       final String inputAllowedNationalities,
+                                       final AllowedValues allowedValues,
                                        final ApiEnumerations apiEnumerations) {
-        super(logger, companyProfileService, companyAppointmentService, inputAllowedNationalities, apiEnumerations);
+        super(logger, companyProfileService, companyAppointmentService, allowedValues, apiEnumerations);
         this.logger = logger;
     }
 
@@ -60,26 +69,107 @@ public class OfficerTerminationValidator extends OfficerValidator {
         }
 
         // Retrieve data objects required for the validation process
-        final Optional<AppointmentFullRecordAPI> companyAppointment = getOfficerAppointment(request, errorList, dto, transaction, passthroughHeader);
-        final Optional<CompanyProfileApi> companyProfile = getCompanyProfile(request, errorList, transaction, passthroughHeader);
+        final var companyDetails = getCompanyProfileAndAppointment(request, dto, transaction, passthroughHeader);
+        errorList.addAll(companyDetails.companyAppointmentErrors());
+        errorList.addAll(companyDetails.companyProfileErrors());
+        final Optional<AppointmentFullRecordAPI> companyAppointment = companyDetails.companyAppointment();
+        final Optional<CompanyProfileApi> companyProfile = companyDetails.companyProfile();
         if (companyAppointment.isEmpty() || companyProfile.isEmpty()) {
             return new ApiErrors(errorList);
         }
 
         // Perform validation
-        validateSubmissionInformationInDate(request, dto, companyAppointment.get(), errorList);
-        validateResignationDatePastOrPresent(request, errorList, dto, companyAppointment.get());
-        validateMinResignationDate(request, errorList, dto);
-        validateCompanyNotDissolved(request, errorList, companyProfile.get());
-        validateTerminationDateAfterIncorporationDate(request, errorList, dto, companyProfile.get());
-        validateTerminationDateAfterAppointmentDate(request, errorList, dto, companyAppointment.get());
-        validateAllowedCompanyType(request, errorList, companyProfile.get());
-        validateOfficerIsNotTerminated(request, errorList, companyAppointment.get());
-        validateOfficerRole(request, errorList, companyAppointment.get());
+        validateTermination(request, errorList, dto, companyAppointment.get(), companyProfile.get());
 
         return new ApiErrors(errorList);
     }
 
+    /**
+     * Validate several terminations of officers of the same company in a single pass. The company
+     * profile is fetched once, concurrently with the appointments, which are each fetched on their
+     * own virtual thread with at most {@code maxConcurrentFetches} in flight at once. Expected
+     * failures to fetch them are reported as errors of the terminations concerned; any other failure
+     * is rethrown once all the fetches have completed.
+     *
+     * @param request           The servlet request used in logging
+     * @param dtos              Data Objects containing details of each termination
+     * @param transaction       the transaction for these terminations
+     * @param passthroughHeader ERIC pass through header for authorisation
+     * @return the validation errors raised for each termination, in the order of the dtos
+     */
+    public List<ApiErrors> validateAll(HttpServletRequest request, List<OfficerFilingDto> dtos, Transaction transaction, String passthroughHeader) {
+        logger.debugContext(transaction.getId(), "Beginning validation of " + dtos.size() + " officer terminations",
+                new LogHelper.Builder(transaction)
+                        .withRequest(request)
+                        .build());
+        final List<ApiError> transactionErrors = new ArrayList<>();
+        validateRequiredTransactionFields(request, transactionErrors, transaction);
+        if (!transactionErrors.isEmpty()) {
+            return dtos.stream().map(dto -> new ApiErrors(transactionErrors)).toList();
+        }
+
+        final List<List<ApiError>> errorLists = new ArrayList<>();
+        final List<List<ApiError>> appointmentErrorLists = new ArrayList<>();
+        final List<ApiError> companyProfileErrors = new ArrayList<>();
+        final List<Future<Optional<AppointmentFullRecordAPI>>> appointmentTasks = new ArrayList<>();
+        final Future<Optional<CompanyProfileApi>> companyProfileTask;
+        final var permits = new Semaphore(Math.max(1, maxConcurrentFetches));
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            companyProfileTask = executor.submit(
+                    () -> getCompanyProfile(request, companyProfileErrors, transaction, passthroughHeader));
+            for (final var dto : dtos) {
+                final List<ApiError> errorList = new ArrayList<>();
+                final List<ApiError> appointmentErrors = new ArrayList<>();
+                validateRequiredDtoFields(request, errorList, dto);
+                // Only fetch the appointments of terminations that passed the early checks
+                appointmentTasks.add(errorList.isEmpty()
+                        ? executor.submit(() -> {
+                            permits.acquire();
+                            try {
+                                return getOfficerAppointment(request, appointmentErrors, dto, transaction, passthroughHeader);
+                            } finally {
+                                permits.release();
+                            }
+                        })
+                        : CompletableFuture.completedFuture(Optional.empty()));
+                errorLists.add(errorList);
+                appointmentErrorLists.add(appointmentErrors);
+            }
+        }
+        rethrowIfFailed(companyProfileTask);
+        appointmentTasks.forEach(OfficerValidator::rethrowIfFailed);
+
+        final var companyProfile = companyProfileTask.resultNow();
+        final List<ApiErrors> results = new ArrayList<>();
+        for (var i = 0; i < dtos.size(); i++) {
+            final var errorList = errorLists.get(i);
+            final var companyAppointment = appointmentTasks.get(i).resultNow();
+            if (errorList.isEmpty()) {
+                errorList.addAll(appointmentErrorLists.get(i));
+                errorList.addAll(companyProfileErrors);
+                if (companyAppointment.isPresent() && companyProfile.isPresent()) {
+                    validateTermination(request, errorList, dtos.get(i), companyAppointment.get(), companyProfile.get());
+                }
+            }
+            results.add(new ApiErrors(errorList));
+        }
+        return results;
+    }
+
+    private void validateTermination(HttpServletRequest request, List<ApiError> errorList, OfficerFilingDto dto,
+                                     AppointmentFullRecordAPI companyAppointment, CompanyProfileApi companyProfile) {
+        validateSubmissionInformationInDate(request, dto, companyAppointment, errorList);
+        validateResignationDatePastOrPresent(request, errorList, dto, companyAppointment);
+        validateMinResignationDate(request, errorList, dto);
+        validateCompanyNotDissolved(request, errorList, companyProfile);
+        validateTerminationDateAfterIncorporationDate(request, errorList, dto, companyProfile);
+        validateTerminationDateAfterAppointmentDate(request, errorList, dto, companyAppointment);
+        validateAllowedCompanyType(request, errorList, companyProfile);
+        validateOfficerIsNotTerminated(request, errorList, companyAppointment);
+        validateOfficerRole(request, errorList, companyAppointment);
+    }
+
     public void validateRequiredDtoFields(HttpServletRequest request, List<ApiError> errorList, OfficerFilingDto dto) {
         // check for blank officer id, eTag and termination date
         if (dto.getReferenceAppointmentId() == null || dto.getReferenceAppointmentId().isBlank()) {
@@ -1,6 +1,7 @@
 package uk.gov.companieshouse.officerfiling.api.validation;
 
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.error.ApiError;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.api.model.delta.officers.AddressAPI;
@@ -26,6 +27,7 @@ import java.util.*;
  * Provides all validation that should be carried out when an officer is updated. Fetches all data necessary to complete
  * the validation and generates a list of errors that can be sent back to the caller.
  */
+@Component
 public class OfficerUpdateValidator extends OfficerValidator {
 
     private final Logger logger;
@@ -34,10 +36,10 @@ public class OfficerUpdateValidator extends OfficerValidator {
     public OfficerUpdateValidator(final Logger logger,
                                   final CompanyAppointmentService companyAppointmentService,
                                   final CompanyProfileService companyProfileService,
-                                  final String inputAllowedNationalities,
+                                  final AllowedValues allowedValues,
                                   final ApiEnumerations apiEnumerations,
                                   final AddressValidator addressValidator) {
-        super(logger, companyProfileService, companyAppointmentService, inputAllowedNationalities, apiEnumerations);
+        super(logger, companyProfileService, companyAppointmentService, allowedValues, apiEnumerations);
         this.logger = logger;
         this.addressValidator = addressValidator;
     }
@@ -61,8 +63,11 @@ public class OfficerUpdateValidator extends OfficerValidator {
         validateRequiredDtoFields(request, errorList, dto);
 
         // Retrieve data objects required for the validation process
-        final Optional<CompanyProfileApi> companyProfile = getCompanyProfile(request, errorList, transaction, passthroughHeader);
-        final Optional<AppointmentFullRecordAPI> companyAppointment = getOfficerAppointment(request, errorList, dto, transaction, passthroughHeader);
+        final var companyDetails = getCompanyProfileAndAppointment(request, dto, transaction, passthroughHeader);
+        errorList.addAll(companyDetails.companyProfileErrors());
+        errorList.addAll(companyDetails.companyAppointmentErrors());
+        final Optional<CompanyProfileApi> companyProfile = companyDetails.companyProfile();
+        final Optional<AppointmentFullRecordAPI> companyAppointment = companyDetails.companyAppointment();
         if (companyProfile.isEmpty() || companyAppointment.isEmpty()) {
             return new ApiErrors(errorList);
         }
@@ -26,6 +26,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -39,37 +42,39 @@ public abstract class OfficerValidator {
     public static final List<String> ALLOWED_COMPANY_TYPES = List.of("private-unlimited", "ltd", "plc", "private-limited-guarant-nsc-limited-exemption",
             "private-limited-guarant-nsc", "private-unlimited-nsc", "private-limited-shares-section-30-exemption");
     public static final List<String> ALLOWED_OFFICER_ROLES = List.of("director", "corporate-director", "nominee-director", "corporate-nominee-director");
-    private static final String REG_EXP_FOR_VALID_CHARACTERS = "^[-,.:; 0-9A-Z&@$£¥€'\"«»?!/\\\\()\\[\\]{}<>*=#%+ÀÁÂÃÄÅĀĂĄÆǼÇĆĈĊČÞĎÐÈÉÊËĒĔĖĘĚĜĞĠĢĤĦÌÍÎÏĨĪĬĮİĴĶĹĻĽĿŁÑŃŅŇŊÒÓÔÕÖØŌŎŐǾŒŔŖŘŚŜŞŠŢŤŦÙÚÛÜŨŪŬŮŰŲŴẀẂẄỲÝŶŸŹŻŽa-zſƒǺàáâãäåāăąæǽçćĉċčþďðèéêëēĕėęěĝģğġĥħìíîïĩīĭįĵķĺļľŀłñńņňŋòóôõöøōŏőǿœŕŗřśŝşšţťŧùúûüũūŭůűųŵẁẃẅỳýŷÿźżž]*$";
+    static final String REG_EXP_FOR_VALID_CHARACTERS = "^[-,.:; 0-9A-Z&@$£¥€'\"«»?!/\\\\()\\[\\]{}<>*=#%+ÀÁÂÃÄÅĀĂĄÆǼÇĆĈĊČÞĎÐÈÉÊËĒĔĖĘĚĜĞĠĢĤĦÌÍÎÏĨĪĬĮİĴĶĹĻĽĿŁÑŃŅŇŊÒÓÔÕÖØŌŎŐǾŒŔŖŘŚŜŞŠŢŤŦÙÚÛÜŨŪŬŮŰŲŴẀẂẄỲÝŶŸŹŻŽa-zſƒǺàáâãäåāăąæǽçćĉċčþďðèéêëēĕėęěĝģğġĥħìíîïĩīĭįĵķĺļľŀłñńņňŋòóôõöøōŏőǿœŕŗřśŝşšţťŧùúûüũūŭůűųŵẁẃẅỳýŷÿźżž]*$";
     private static final String REG_EXP_FOR_UK_POSTCODE = "^[A-Z]{1,2}\\d[A-Z0-9]? ?\\d[A-Z]{2}$";
-    private static final String REG_EXP_FOR_NAME = "^[ÀÁÂÃÄÅĀĂĄÆǼÇĆĈĊČÞĎÐÈÉÊËĒĔĖĘĚĜĞĠĢĤĦÌÍÎÏĨĪĬĮİĴĶĹĻĽĿŁÑŃŅŇŊÒÓÔÕÖØŌŎŐǾŒŔŖŘŚŜŞŠŢŤŦÙÚÛÜŨŪŬŮŰŲŴẀẂẄỲÝŶŸŹŻŽ'A-Za-zſƒǺàáâãäåāăąæǽçćĉċčþďðèéêëēĕėęěĝģğġĥħìíîïĩīĭįĵķĺļľŀłñńņňŋòóôõöøōŏőǿœŕŗřśŝşšţťŧùúûüũūŭůűųŵẁẃẅỳýŷÿźżž -]*$";
-    private static final String REG_EXP_FOR_TITLE = "^[ÀÁÂÃÄÅĀĂĄÆǼÇĆĈĊČÞĎÐÈÉÊËĒĔĖĘĚĜĞĠĢĤĦÌÍÎÏĨĪĬĮİĴĶĹĻĽĿŁÑŃŅŇŊÒÓÔÕÖØŌŎŐǾŒŔŖŘŚŜŞŠŢŤŦÙÚÛÜŨŪŬŮŰŲŴẀẂẄỲÝŶŸŹŻŽ'A-Za-zſƒǺàáâãäåāăąæǽçćĉċčþďðèéêëēĕėęěĝģğġĥħìíîïĩīĭįĵķĺļľŀłñńņňŋòóôõöøōŏőǿœŕŗřśŝşšţťŧùúûüũūŭůűųŵẁẃẅỳýŷÿźżž. -]*$";
-    private static final String REG_EXP_FOR_FORMER_NAMES = "^[ÀÁÂÃÄÅĀĂĄÆǼÇĆĈĊČÞĎÐÈÉÊËĒĔĖĘĚĜĞĠĢĤĦÌÍÎÏĨĪĬĮİĴĶĹĻĽĿŁÑŃŅŇŊÒÓÔÕÖØŌŎŐǾŒŔŖŘŚŜŞŠŢŤŦÙÚÛÜŨŪŬŮŰŲŴẀẂẄỲÝŶŸŹŻŽ'A-Za-zſƒǺàáâãäåāăąæǽçćĉċčþďðèéêëēĕėęěĝģğġĥħìíîïĩīĭįĵķĺļľŀłñńņňŋòóôõöøōŏőǿœŕŗřśŝşšţťŧùúûüũūŭůűųŵẁẃẅỳýŷÿźżž, -]*$";
+    static final String REG_EXP_FOR_NAME = "^[ÀÁÂÃÄÅĀĂĄÆǼÇĆĈĊČÞĎÐÈÉÊËĒĔĖĘĚĜĞĠĢĤĦÌÍÎÏĨĪĬĮİĴĶĹĻĽĿŁÑŃŅŇŊÒÓÔÕÖØŌŎŐǾŒŔŖŘŚŜŞŠŢŤŦÙÚÛÜŨŪŬŮŰŲŴẀẂẄỲÝŶŸŹŻŽ'A-Za-zſƒǺàáâãäåāăąæǽçćĉċčþďðèéêëēĕėęěĝģğġĥħìíîïĩīĭįĵķĺļľŀłñńņňŋòóôõöøōŏőǿœŕŗřśŝşšţťŧùúûüũūŭůűųŵẁẃẅỳýŷÿźżž -]*$";
+    static final String REG_EXP_FOR_TITLE = "^[ÀÁÂÃÄÅĀĂĄÆǼÇĆĈĊČÞĎÐÈÉÊËĒĔĖĘĚĜĞĠĢĤĦÌÍÎÏĨĪĬĮİĴĶĹĻĽĿŁÑŃŅŇŊÒÓÔÕÖØŌŎŐǾŒŔŖŘŚŜŞŠŢŤŦÙÚÛÜŨŪŬŮŰŲŴẀẂẄỲÝŶŸŹŻŽ'A-Za-zſƒǺàáâãäåāăąæǽçćĉċčþďðèéêëēĕėęěĝģğġĥħìíîïĩīĭįĵķĺļľŀłñńņňŋòóôõöøōŏőǿœŕŗřśŝşšţťŧùúûüũūŭůűųŵẁẃẅỳýŷÿźżž. -]*$";
+    static final String REG_EXP_FOR_FORMER_NAMES = "^[ÀÁÂÃÄÅĀĂĄÆǼÇĆĈĊČÞĎÐÈÉÊËĒĔĖĘĚĜĞĠĢĤĦÌÍÎÏĨĪĬĮİĴĶĹĻĽĿŁÑŃŅŇŊÒÓÔÕÖØŌŎŐǾŒŔŖŘŚŜŞŠŢŤŦÙÚÛÜŨŪŬŮŰŲŴẀẂẄỲÝŶŸŹŻŽ'A-Za-zſƒǺàáâãäåāăąæǽçćĉċčþďðèéêëēĕėęěĝģğġĥħìíîïĩīĭįĵķĺļľŀłñńņňŋòóôõöøōŏőǿœŕŗřśŝşšţťŧùúûüũūŭůűųŵẁẃẅỳýŷÿźżž, -]*$";
     private static final String DISSOLVED = "dissolved";
+    static final CharacterAllowList VALID_CHARACTERS = CharacterAllowList.fromRegex(REG_EXP_FOR_VALID_CHARACTERS);
+    static final CharacterAllowList NAME_CHARACTERS = CharacterAllowList.fromRegex(REG_EXP_FOR_NAME);
+    static final CharacterAllowList TITLE_CHARACTERS = CharacterAllowList.fromRegex(REG_EXP_FOR_TITLE);
+    static final CharacterAllowList FORMER_NAME_CHARACTERS = CharacterAllowList.fromRegex(REG_EXP_FOR_FORMER_NAMES);
+    private static final Pattern UK_POSTCODE = Pattern.compile(REG_EXP_FOR_UK_POSTCODE);
 
     private final Logger logger;
-    private final String inputAllowedNationalities;
+    private final AllowedValues allowedValues;
     private final CompanyProfileService companyProfileService;
-    private CompanyAppointmentService companyAppointmentService;
-    protected ApiEnumerations apiEnumerations;
+    private final CompanyAppointmentService companyAppointmentService;
+    protected final ApiEnumerations apiEnumerations;
 
     protected OfficerValidator(final Logger logger, final CompanyProfileService companyProfileService,
-                               final CompanyAppointmentService companyAppointmentService, final String inputAllowedNationalities,
+                               final CompanyAppointmentService companyAppointmentService, final AllowedValues allowedValues,
                                final ApiEnumerations apiEnumerations) {
         this.logger = logger;
         this.companyProfileService = companyProfileService;
         this.companyAppointmentService = companyAppointmentService;
-        this.inputAllowedNationalities = inputAllowedNationalities;
+        this.allowedValues = allowedValues;
         this.apiEnumerations = apiEnumerations;
     }
 
     protected OfficerValidator(final Logger logger,
                                final CompanyProfileService companyProfileService,
-                               final String inputAllowedNationalities,
+                               final AllowedValues allowedValues,
                                final ApiEnumerations apiEnumerations) {
-        this.logger = logger;
-        this.companyProfileService = companyProfileService;
-        this.inputAllowedNationalities = inputAllowedNationalities;
-        this.apiEnumerations = apiEnumerations;
+        this(logger, companyProfileService, null, allowedValues, apiEnumerations);
     }
 
     /**
@@ -149,7 +154,7 @@ public abstract class OfficerValidator {
         try {
             return Optional.ofNullable(
                     companyAppointmentService.getCompanyAppointment(transaction.getId(), transaction.getCompanyNumber(),
-                            dto.getReferenceAppointmentId(), passthroughHeader));
+                            dto.getReferenceAppointmentId(), dto.getReferenceEtag(), passthroughHeader));
         } catch (ServiceUnavailableException e) {
             createServiceError(request, errorList);
         } catch (CompanyAppointmentServiceException e) {
@@ -159,6 +164,68 @@ public abstract class OfficerValidator {
         return Optional.empty();
     }
 
+    /**
+     * Fetches the company profile and the officer appointment concurrently, each on its own virtual
+     * thread. Expected failures are mapped to errors exactly as {@link #getCompanyProfile} and
+     * {@link #getOfficerAppointment} do, collected separately so callers can report them in a
+     * stable order. Any other failure cancels the sibling call and is rethrown.
+     *
+     * @param request           The servlet request used in logging
+     * @param dto               Data Object containing the appointment id
+     * @param transaction       the transaction holding the company number
+     * @param passthroughHeader ERIC pass through header for authorisation
+     * @return the company profile and appointment, if found, with any errors raised fetching them
+     */
+    protected CompanyProfileAndAppointment getCompanyProfileAndAppointment(HttpServletRequest request,
+            OfficerFilingDto dto, Transaction transaction, String passthroughHeader) {
+        final List<ApiError> companyProfileErrors = new ArrayList<>();
+        final List<ApiError> companyAppointmentErrors = new ArrayList<>();
+        final var companyProfileTask = new FutureTask<>(
+                () -> getCompanyProfile(request, companyProfileErrors, transaction, passthroughHeader));
+        final var companyAppointmentTask = new FutureTask<>(
+                () -> getOfficerAppointment(request, companyAppointmentErrors, dto, transaction, passthroughHeader));
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.execute(() -> runOrCancelSibling(companyProfileTask, companyAppointmentTask));
+            executor.execute(() -> runOrCancelSibling(companyAppointmentTask, companyProfileTask));
+        }
+        rethrowIfFailed(companyProfileTask);
+        rethrowIfFailed(companyAppointmentTask);
+
+        return new CompanyProfileAndAppointment(companyProfileTask.resultNow(), companyProfileErrors,
+                companyAppointmentTask.resultNow(), companyAppointmentErrors);
+    }
+
+    private static void runOrCancelSibling(FutureTask<?> task, Future<?> sibling) {
+        task.run();
+        if (task.state() == Future.State.FAILED) {
+            sibling.cancel(true);
+        }
+    }
+
+    protected static void rethrowIfFailed(Future<?> task) {
+        if (task.state() != Future.State.FAILED) {
+            return;
+        }
+        final var cause = task.exceptionNow();
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        throw new IllegalStateException(cause);
+    }
+
+    /**
+     * The result of {@link #getCompanyProfileAndAppointment}.
+     */
+    protected record CompanyProfileAndAppointment(Optional<CompanyProfileApi> companyProfile,
+                                                  List<ApiError> companyProfileErrors,
+                                                  Optional<AppointmentFullRecordAPI> companyAppointment,
+                                                  List<ApiError> companyAppointmentErrors) {
+    }
+
     public void createServiceError(HttpServletRequest request, List<ApiError> errorList) {
         final var apiError = new ApiError(apiEnumerations.getValidation(ValidationEnum.SERVICE_UNAVAILABLE), request.getRequestURI(),
                 LocationType.JSON_PATH.getValue(), ErrorType.SERVICE.getType());
@@ -180,45 +247,32 @@ public abstract class OfficerValidator {
     }
 
     public static boolean isValidCharacters(String field) {
-        var pattern = Pattern.compile(REG_EXP_FOR_VALID_CHARACTERS);
-        var matcher = pattern.matcher(field);
-        return matcher.matches();
+        return VALID_CHARACTERS.permits(field);
     }
 
     public static boolean isValidNameCharacters(String field) {
-        var pattern = Pattern.compile(REG_EXP_FOR_NAME);
-        var matcher = pattern.matcher(field);
-        return matcher.matches();
+        return NAME_CHARACTERS.permits(field);
     }
 
     public static boolean isValidTitleCharacters(String field) {
-        var pattern = Pattern.compile(REG_EXP_FOR_TITLE);
-        var matcher = pattern.matcher(field);
-        return matcher.matches();
+        return TITLE_CHARACTERS.permits(field);
     }
 
     public static boolean isValidFormerNameCharacters(String field) {
-        var pattern = Pattern.compile(REG_EXP_FOR_FORMER_NAMES);
-        var matcher = pattern.matcher(field);
-        return matcher.matches();
+        return FORMER_NAME_CHARACTERS.permits(field);
     }
 
     public static boolean isValidCharactersForUkPostcode(String field) {
         if (field == null) return false;
-        var pattern = Pattern.compile(REG_EXP_FOR_UK_POSTCODE);
-        var matcher = pattern.matcher(field.toUpperCase().trim());
-        return matcher.matches();
+        return UK_POSTCODE.matcher(field.toUpperCase().trim()).matches();
     }
 
-    public List<String> getAllowedNationalities(String inputAllowedNationalities) {
-
-        String[] nationalityArray = inputAllowedNationalities.split(",");
-
-        return Arrays.asList(nationalityArray);
+    public boolean isValidNationalityFromAllowedList(String nationality) {
+        return allowedValues.isAllowedNationality(nationality);
     }
 
-    public boolean isValidNationalityFromAllowedList(String nationality, String inputAllowedNationalities) {
-        return getAllowedNationalities(inputAllowedNationalities).stream().anyMatch(x -> x.equalsIgnoreCase(nationality));
+    protected AllowedValues getAllowedValues() {
+        return allowedValues;
     }
 
     public Optional<LocalDate> getAppointmentDate(HttpServletRequest request, AppointmentFullRecordAPI companyAppointment) {
@@ -297,7 +351,7 @@ public abstract class OfficerValidator {
         if (dto.getNationality1() == null || dto.getNationality1().isBlank()) {
             createValidationError(request, errorList, apiEnumerations.getValidation(ValidationEnum.NATIONALITY_BLANK));
         } else {
-            if (!isValidNationalityFromAllowedList(dto.getNationality1(), inputAllowedNationalities)) {
+            if (!isValidNationalityFromAllowedList(dto.getNationality1())) {
                 createValidationError(request, errorList, apiEnumerations.getValidation(ValidationEnum.INVALID_NATIONALITY));
             }
         }
@@ -308,7 +362,7 @@ public abstract class OfficerValidator {
             if (dto.getNationality2().equalsIgnoreCase(dto.getNationality1())) {
                 createValidationError(request, errorList, apiEnumerations.getValidation(ValidationEnum.DUPLICATE_NATIONALITY2));
             }
-            if (!isValidNationalityFromAllowedList(dto.getNationality2(), inputAllowedNationalities)) {
+            if (!isValidNationalityFromAllowedList(dto.getNationality2())) {
                 createValidationError(request, errorList, apiEnumerations.getValidation(ValidationEnum.INVALID_NATIONALITY));
             }
         }
@@ -323,7 +377,7 @@ public abstract class OfficerValidator {
             if (dto.getNationality3().equalsIgnoreCase(dto.getNationality2())) {
                 createValidationError(request, errorList, apiEnumerations.getValidation(ValidationEnum.DUPLICATE_NATIONALITY3));
             }
-            if (!isValidNationalityFromAllowedList(dto.getNationality3(), inputAllowedNationalities)) {
+            if (!isValidNationalityFromAllowedList(dto.getNationality3())) {
                 createValidationError(request, errorList, apiEnumerations.getValidation(ValidationEnum.INVALID_NATIONALITY));
             }
         }
@@ -0,0 +1,72 @@
+package uk.gov.companieshouse.officerfiling.api.cache;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+class CachesEndpointTest {
+
+    private ExpiringCache<String> cache;
+    private CachesEndpoint testEndpoint;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ExpiringCache<>("company-profile", 10, Duration.ofSeconds(30), Clock.systemUTC(),
+                new SimpleMeterRegistry());
+        cache.put("12345678", "profile");
+        cache.put("87654321", "profile");
+        testEndpoint = new CachesEndpoint(List.of(cache));
+    }
+
+    @Test
+    void cachesReportsStatistics() {
+        cache.get("12345678", key -> "reloaded");
+
+        final var statistics = testEndpoint.caches().get("company-profile");
+
+        assertThat(statistics, is(new CachesEndpoint.CacheStatistics(2, 1, 0)));
+    }
+
+    @Test
+    void evictRemovesOneEntry() {
+        final var response = testEndpoint.evict("company-profile", "12345678");
+
+        assertThat(response.getStatus(), is(WebEndpointResponse.STATUS_NO_CONTENT));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    void evictRemovesAppointmentEntry() {
+        final var appointmentCache = new ExpiringCache<String>("company-appointment", 10,
+                Duration.ofSeconds(30), Clock.systemUTC(), new SimpleMeterRegistry());
+        appointmentCache.put("12345678/appointment-1", "appointment");
+        appointmentCache.put("12345678/appointment-2", "appointment");
+        testEndpoint = new CachesEndpoint(List.of(cache, appointmentCache));
+
+        final var response = testEndpoint.evict("company-appointment", "12345678", "appointment-1");
+
+        assertThat(response.getStatus(), is(WebEndpointResponse.STATUS_NO_CONTENT));
+        assertThat(appointmentCache.size(), is(1));
+        assertThat(appointmentCache.get("12345678/appointment-2", key -> "reloaded"), is("appointment"));
+    }
+
+    @Test
+    void evictAllRemovesEveryEntry() {
+        testEndpoint.evictAll("company-profile");
+
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    void evictWhenCacheNotFound() {
+        assertThat(testEndpoint.evict("unknown", "12345678").getStatus(),
+                is(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+}
@@ -0,0 +1,111 @@
+package uk.gov.companieshouse.officerfiling.api.cache;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiringCacheTest {
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    @Mock
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger loads;
+    private ExpiringCache<String> testCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loads = new AtomicInteger();
+        testCache = new ExpiringCache<>("test", 2, TTL, clock, meterRegistry);
+    }
+
+    @Test
+    void getLoadsOnceWhileFresh() {
+        assertThat(testCache.get("a", this::load), is("a1"));
+        assertThat(testCache.get("a", this::load), is("a1"));
+
+        assertThat(loads.get(), is(1));
+        assertThat(testCache.hitCount(), is(1L));
+        assertThat(testCache.missCount(), is(1L));
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "test").tag("result", "hit")
+                .counter().count(), is(1.0));
+    }
+
+    @Test
+    void getReloadsWhenExpired() {
+        when(clock.millis()).thenReturn(0L, 0L, TTL.toMillis());
+
+        testCache.get("a", this::load);
+
+        assertThat(testCache.get("a", this::load), is("a2"));
+    }
+
+    @Test
+    void getEvictsLeastRecentlyUsedWhenFull() {
+        testCache.get("a", this::load);
+        testCache.get("b", this::load);
+        testCache.get("a", this::load);
+        testCache.get("c", this::load);
+
+        assertThat(testCache.size(), is(2));
+        assertThat(testCache.get("a", this::load), is("a1"));
+        assertThat(testCache.get("b", this::load), is("b4"));
+        assertThat(meterRegistry.get("cache.evictions").counter().count(), is(2.0));
+    }
+
+    @Test
+    void getReloadsWhenCachedValueIsNotFresh() {
+        testCache.get("a", this::load);
+
+        assertThat(testCache.get("a", cached -> cached.equals("a1"), this::load), is("a1"));
+        assertThat(testCache.get("a", cached -> false, this::load), is("a2"));
+        assertThat(testCache.get("a", this::load), is("a2"));
+        assertThat(testCache.missCount(), is(2L));
+    }
+
+    @Test
+    void getDoesNotCacheFailures() {
+        assertThrows(IllegalStateException.class, () -> testCache.get("a", key -> {
+            throw new IllegalStateException();
+        }));
+
+        assertThat(testCache.size(), is(0));
+    }
+
+    @Test
+    void invalidateRemovesEntry() {
+        testCache.get("a", this::load);
+
+        assertThat(testCache.invalidate("a"), is(true));
+        assertThat(testCache.invalidate("a"), is(false));
+        assertThat(testCache.get("a", this::load), is("a2"));
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        final var disabled = new ExpiringCache<String>("disabled", 0, TTL, clock, meterRegistry);
+
+        disabled.get("a", this::load);
+        disabled.get("a", this::load);
+
+        assertThat(loads.get(), is(2));
+        assertThat(disabled.size(), is(0));
+    }
+
+    private String load(final String key) {
+        return key + loads.incrementAndGet();
+    }
+}
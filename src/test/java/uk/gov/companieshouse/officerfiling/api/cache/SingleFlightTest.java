@@ -0,0 +1,118 @@
+package uk.gov.companieshouse.officerfiling.api.cache;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger calls;
+    private SingleFlight<String> testFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        calls = new AtomicInteger();
+        testFlight = new SingleFlight<>("test", meterRegistry);
+    }
+
+    @Test
+    void executeSharesResultOfCallInFlight() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var leader = executor.submit(() -> testFlight.execute("a", () -> {
+                started.countDown();
+                await(release);
+                return "a" + calls.incrementAndGet();
+            }));
+            started.await(5, TimeUnit.SECONDS);
+            final var follower = executor.submit(
+                    () -> testFlight.execute("a", () -> "a" + calls.incrementAndGet()));
+            awaitCoalesced(1);
+            release.countDown();
+
+            assertThat(leader.get(), is("a1"));
+            assertThat(follower.get(), is("a1"));
+        }
+        assertThat(calls.get(), is(1));
+        assertThat(testFlight.coalescedCount(), is(1L));
+        assertThat(meterRegistry.get("singleflight.calls").tag("name", "test")
+                .tag("result", "executed").counter().count(), is(1.0));
+    }
+
+    @Test
+    void executeSharesExceptionOfCallInFlight() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var failure = new IllegalStateException("down");
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var leader = executor.submit(() -> testFlight.execute("a", () -> {
+                started.countDown();
+                await(release);
+                throw failure;
+            }));
+            started.await(5, TimeUnit.SECONDS);
+            final var follower = executor.submit(() -> testFlight.execute("a", () -> "a"));
+            awaitCoalesced(1);
+            release.countDown();
+
+            assertThat(assertThrows(ExecutionException.class, leader::get).getCause(),
+                    is(sameInstance(failure)));
+            assertThat(assertThrows(ExecutionException.class, follower::get).getCause(),
+                    is(sameInstance(failure)));
+        }
+    }
+
+    @Test
+    void executeCallsAgainOnceCallCompleted() {
+        assertThat(testFlight.execute("a", () -> "a" + calls.incrementAndGet()), is("a1"));
+        assertThat(testFlight.execute("a", () -> "a" + calls.incrementAndGet()), is("a2"));
+
+        assertThat(testFlight.coalescedCount(), is(0L));
+    }
+
+    @Test
+    void executeCallsAgainAfterFailure() {
+        assertThrows(IllegalStateException.class, () -> testFlight.execute("a", () -> {
+            throw new IllegalStateException();
+        }));
+
+        assertThat(testFlight.execute("a", () -> "a"), is("a"));
+    }
+
+    @Test
+    void executeDoesNotShareCallsForDifferentKeys() {
+        assertThat(testFlight.execute("a", () -> testFlight.execute("b", () -> "b")), is("b"));
+
+        assertThat(testFlight.coalescedCount(), is(0L));
+    }
+
+    private void awaitCoalesced(final long count) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (testFlight.coalescedCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
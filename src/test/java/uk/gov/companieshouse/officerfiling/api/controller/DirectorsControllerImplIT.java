@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.officerfiling.api.controller;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -35,14 +37,12 @@ import uk.gov.companieshouse.officerfiling.api.utils.LogHelper;
 
 import java.io.IOException;
 import java.time.Instant;
-import java.time.LocalDate;
-import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -52,6 +52,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @Tag("web")
 @WebMvcTest(controllers = DirectorsControllerImpl.class)
+@Import(SimpleMeterRegistry.class)
 class DirectorsControllerImplIT {
     private static final String TRANS_ID = "4f56fdf78b357bfc";
     private static final String SUBMISSION_ID = "645d1188c794645afe15f5cc";
@@ -111,7 +112,7 @@ class DirectorsControllerImplIT {
         when(transactionInterceptor.preHandle(any(), any(), any())).thenReturn(true);
         when(openTransactionInterceptor.preHandle(any(), any(), any())).thenReturn(true);
 
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, null, PASSTHROUGH_HEADER)).thenReturn(appointmentFullRecordAPI);
+        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, null, "etag", PASSTHROUGH_HEADER)).thenReturn(appointmentFullRecordAPI);
         when(apiClientService.getApiClient(PASSTHROUGH_HEADER)).thenReturn(apiClientMock);
         when(apiClientMock.transactions()).thenReturn(transactionResourceHandlerMock);
         when(transactionResourceHandlerMock.get(anyString())).thenReturn(transactionGetMock);
@@ -161,9 +162,7 @@ class DirectorsControllerImplIT {
                         .headers(httpHeaders).requestAttr("transaction", transaction))
                 .andDo(print())
                 .andExpect(status().isOk());
-        verify(appointmentFullRecordAPI, times(1)).setResignedOn(
-                LocalDate.ofInstant(resignedOn,
-                ZoneId.systemDefault()));
+        verify(appointmentFullRecordAPI, never()).setResignedOn(any());
     }
 
     @Test
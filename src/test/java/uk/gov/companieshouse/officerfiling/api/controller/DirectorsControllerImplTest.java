@@ -1,9 +1,8 @@
 package uk.gov.companieshouse.officerfiling.api.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
@@ -53,8 +52,6 @@ class DirectorsControllerImplTest {
   @Mock
   Optional<OfficerFiling> officerFilingOptional;
   @Mock
-  AppointmentFullRecordAPI appointmentFullRecordAPI;
-  @Mock
   OfficerFiling officerFiling;
   @Mock
   OfficerServiceException serviceException;
@@ -115,11 +112,16 @@ class DirectorsControllerImplTest {
     when(officerFilingOptional.isPresent()).thenReturn(true);
     when(officerFilingOptional.get()).thenReturn(officerFiling);
     when(officerFiling.getData()).thenReturn(offData);
-    when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, null, PASSTHROUGH_HEADER)).thenReturn(appointmentFullRecordAPI);
+    var appointment = new AppointmentFullRecordAPI();
+    appointment.setForename("John");
+    when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, null, "etag", PASSTHROUGH_HEADER)).thenReturn(appointment);
     var response = testService.getRemoveCheckAnswersDirectorDetails(TRANS_ID, transaction, SUBMISSION_ID, request);
     assertEquals(HttpStatus.OK, response.getStatusCode());
-    verify(appointmentFullRecordAPI, times(1)).setResignedOn(
-            LocalDate.ofInstant(resignedOn,ZoneId.systemDefault()));
+    var directorsDetails = (AppointmentFullRecordAPI) response.getBody();
+    assertEquals("John", directorsDetails.getForename());
+    assertEquals(LocalDate.ofInstant(resignedOn, ZoneId.systemDefault()), directorsDetails.getResignedOn());
+    // the appointment may be shared from the cache, so is left unchanged
+    assertNull(appointment.getResignedOn());
   }
 
   @Test
@@ -3,22 +3,33 @@ package uk.gov.companieshouse.officerfiling.api.controller;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
+import uk.gov.companieshouse.api.model.transaction.Resource;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.officerfiling.api.exception.FeatureNotEnabledException;
 import uk.gov.companieshouse.officerfiling.api.exception.ResourceNotFoundException;
 import uk.gov.companieshouse.officerfiling.api.model.entity.OfficerFiling;
 import uk.gov.companieshouse.officerfiling.api.service.FilingDataService;
+import uk.gov.companieshouse.officerfiling.api.service.OfficerFilingService;
 import uk.gov.companieshouse.sdk.manager.ApiSdkManager;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +37,7 @@ class FilingDataControllerImplTest {
 
     public static final String TRANS_ID = "117524-754816-491724";
     public static final String FILING_ID = "6332aa6ed28ad2333c3a520a";
+    public static final String OTHER_FILING_ID = "6332aa6ed28ad2333c3a520b";
     private static final String PASSTHROUGH_HEADER = "passthrough";
 
     @Mock
@@ -34,6 +46,9 @@ class FilingDataControllerImplTest {
     @Mock
     private FilingDataService filingDataService;
 
+    @Mock
+    private OfficerFilingService officerFilingService;
+
     @Mock
     private Logger logger;
 
@@ -44,7 +59,7 @@ class FilingDataControllerImplTest {
 
     @BeforeEach
     void setUp() {
-        testController = new FilingDataControllerImpl(filingDataService, logger);
+        testController = new FilingDataControllerImpl(filingDataService, officerFilingService, logger);
         ReflectionTestUtils.setField(testController, "isTm01Enabled", true);
     }
 
@@ -55,9 +70,42 @@ class FilingDataControllerImplTest {
 
         when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(PASSTHROUGH_HEADER);
 
-        final var filingsList= testController.getFilingsData(TRANS_ID, FILING_ID, request);
+        final var response = testController.getFilingsData(TRANS_ID, FILING_ID, request);
 
-        assertThat(filingsList, Matchers.contains(filingApi));
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody(), Matchers.contains(filingApi));
+    }
+
+    @Test
+    void getFilingsDataStoredWithFilingRead() {
+        var filingApi = new FilingApi();
+        final var filing = OfficerFiling.builder().id(FILING_ID).version(5L).build();
+        when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(filing));
+        when(filingDataService.storeOfficerFiling(TRANS_ID, filing, PASSTHROUGH_HEADER)).thenReturn(filingApi);
+        when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(PASSTHROUGH_HEADER);
+        when(request.getHeaders(HttpHeaders.IF_NONE_MATCH)).thenReturn(
+                Collections.enumeration(List.of("\"4\"")));
+
+        final var response = testController.getFilingsData(TRANS_ID, FILING_ID, request);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getHeaders().getETag(), is("\"5\""));
+        assertThat(response.getBody(), Matchers.contains(filingApi));
+    }
+
+    @Test
+    void getFilingsDataWhenNotModified() {
+        final var filing = OfficerFiling.builder().id(FILING_ID).version(5L).build();
+        when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(filing));
+        when(request.getHeaders(HttpHeaders.IF_NONE_MATCH)).thenReturn(
+                Collections.enumeration(List.of("W/\"5\"")));
+
+        final var response = testController.getFilingsData(TRANS_ID, FILING_ID, request);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.NOT_MODIFIED));
+        assertThat(response.getHeaders().getETag(), is("\"5\""));
+        assertThat(response.hasBody(), is(false));
+        verifyNoInteractions(filingDataService);
     }
 
     @Test
@@ -71,10 +119,42 @@ class FilingDataControllerImplTest {
         assertThat(exception.getMessage(), is("Test Resource not found"));
     }
 
+    @Test
+    void getTransactionFilingsData() {
+        final var transaction = new Transaction();
+        transaction.setId(TRANS_ID);
+        final Map<String, Resource> resources = new LinkedHashMap<>();
+        resources.put("first", createResource("officer-filing", FILING_ID));
+        resources.put("other", createResource("other-filing", "other-id"));
+        resources.put("second", createResource("officer-filing", OTHER_FILING_ID));
+        transaction.setResources(resources);
+        final var otherFiling = OfficerFiling.builder().id(OTHER_FILING_ID).version(0L).build();
+        final var filingApi = new FilingApi();
+        final var otherFilingApi = new FilingApi();
+        when(officerFilingService.getAll(List.of(FILING_ID, OTHER_FILING_ID), TRANS_ID)).thenReturn(
+                List.of(otherFiling));
+        when(filingDataService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER)).thenReturn(filingApi);
+        when(filingDataService.storeOfficerFiling(TRANS_ID, otherFiling, PASSTHROUGH_HEADER)).thenReturn(
+                otherFilingApi);
+        when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(PASSTHROUGH_HEADER);
+
+        final var response = testController.getTransactionFilingsData(transaction, request);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody(), Matchers.contains(filingApi, otherFilingApi));
+    }
+
     @Test
     void checkTm01FeatureFlagDisabled(){
         ReflectionTestUtils.setField(testController, "isTm01Enabled", false);
         assertThrows(FeatureNotEnabledException.class,
             () -> testController.getFilingsData(TRANS_ID, FILING_ID, request));
     }
-}
\ No newline at end of file
+
+    private static Resource createResource(final String kind, final String filingId) {
+        final var resource = new Resource();
+        resource.setKind(kind);
+        resource.setLinks(Map.of("resource", "/transactions/" + TRANS_ID + "/officers/" + filingId));
+        return resource;
+    }
+}
@@ -8,6 +8,8 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -20,6 +22,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static uk.gov.companieshouse.officerfiling.api.controller.OfficerFilingControllerImpl.VALIDATION_STATUS;
 import static uk.gov.companieshouse.officerfiling.api.model.entity.Links.PREFIX_PRIVATE;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.net.URI;
 import java.text.SimpleDateFormat;
@@ -39,6 +42,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -65,10 +69,12 @@ import uk.gov.companieshouse.officerfiling.api.model.mapper.OfficerFilingMapper;
 import uk.gov.companieshouse.officerfiling.api.service.CompanyAppointmentService;
 import uk.gov.companieshouse.officerfiling.api.service.CompanyProfileService;
 import uk.gov.companieshouse.officerfiling.api.service.OfficerFilingService;
+import uk.gov.companieshouse.officerfiling.api.service.OfficerService;
 import uk.gov.companieshouse.officerfiling.api.service.TransactionService;
 
 @Tag("web")
 @WebMvcTest(controllers = OfficerFilingControllerImpl.class)
+@Import(SimpleMeterRegistry.class)
 class OfficerFilingControllerImplIT {
     private static final String TRANS_ID = "4f56fdf78b357bfc";
     private static final String FILING_ID = "632c8e65105b1b4a9f0d1f5e";
@@ -97,6 +103,8 @@ class OfficerFilingControllerImplIT {
     @MockitoBean
     private OfficerFilingService officerFilingService;
     @MockitoBean
+    private OfficerService officerService;
+    @MockitoBean
     private OfficerFilingMapper filingMapper;
     @MockitoBean
     private CompanyProfileService companyProfileService;
@@ -184,7 +192,7 @@ class OfficerFilingControllerImplIT {
             .build();
 
         when(transactionService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER)).thenReturn(transaction);
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
         when(companyProfileService.getCompanyProfile(TRANS_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER)).thenReturn(companyProfileApi);
         when(officerFilingService.save(any(OfficerFiling.class), eq(TRANS_ID))).thenReturn(
                 OfficerFiling.builder(filing).id(FILING_ID)
@@ -201,6 +209,8 @@ class OfficerFilingControllerImplIT {
                 .andExpect(header().string("Location", locationUri.toUriString()))
                 .andExpect(jsonPath("$.id").value("632c8e65105b1b4a9f0d1f5e"));
         verify(filingMapper).map(dto);
+        // filing and links are persisted by a single write
+        verify(officerFilingService, times(1)).save(any(OfficerFiling.class), eq(TRANS_ID));
     }
 
     @Test
@@ -221,7 +231,7 @@ class OfficerFilingControllerImplIT {
 
         when(transactionService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER)).thenReturn(transaction);
         when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(filing));
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
         when(companyProfileService.getCompanyProfile(TRANS_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER)).thenReturn(companyProfileApi);
         when(officerFilingService.save(any(OfficerFiling.class), eq(TRANS_ID))).thenReturn(
                         OfficerFiling.builder(filing).id(FILING_ID)
@@ -242,6 +252,7 @@ class OfficerFilingControllerImplIT {
                 .andExpect(jsonPath("$.data.reference_appointment_id", is("632c8e65105b1b4a9f0d1f5e")))
                 .andExpect(jsonPath("$.data.resigned_on", is("2022-09-13T00:00:00Z")));
         verify(filingMapper).map(dto);
+        verify(officerFilingService, times(1)).save(any(OfficerFiling.class), eq(TRANS_ID));
     }
 
     @Test
@@ -269,7 +280,7 @@ class OfficerFilingControllerImplIT {
 
         when(transactionService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER)).thenReturn(transaction);
         when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(officerFiling));
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
         when(companyProfileService.getCompanyProfile(TRANS_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER)).thenReturn(companyProfileApi);
         when(officerFilingService.save(any(OfficerFiling.class), eq(TRANS_ID))).thenReturn(officerFiling)
                 .thenAnswer(i -> OfficerFiling.builder(i.getArgument(0)).build()); // copy of first argument
@@ -314,7 +325,7 @@ class OfficerFilingControllerImplIT {
 
         when(transactionService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER)).thenReturn(transaction);
         when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(officerFiling));
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
         when(companyProfileService.getCompanyProfile(TRANS_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER)).thenReturn(companyProfileApi);
         when(officerFilingService.save(any(OfficerFiling.class), eq(TRANS_ID))).thenReturn(officerFiling)
                 .thenAnswer(i -> OfficerFiling.builder(i.getArgument(0)).build()); // copy of first argument
@@ -365,6 +376,19 @@ class OfficerFilingControllerImplIT {
                         is(Map.of("offset", "line: 1, column: 1", "line", "1", "column", "1"))));
     }
 
+    @Test
+    void createFilingsWhenFilingNullThenResponse400() throws Exception {
+        when(transactionService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER)).thenReturn(transaction);
+
+        mockMvc.perform(post("/transactions/{id}/officers/batch", TRANS_ID).content("[{}, null]")
+                        .contentType("application/json")
+                        .headers(httpHeaders))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors", hasSize(1)));
+        verify(officerFilingService, never()).saveAll(any(), eq(TRANS_ID));
+    }
+
     @Test
     void createFilingWhenDateUnparseableThenResponse400() throws Exception {
         response400BaseTest("ABC");
@@ -390,7 +414,7 @@ class OfficerFilingControllerImplIT {
                                 .build()) // copy of 'filing' with id=FILING_ID
                 .thenAnswer(i -> OfficerFiling.builder(i.getArgument(0))
                         .build());
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
         when(filingMapper.map(dto)).thenReturn(filing);
         when(transactionService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER)).thenReturn(transaction);
         mockMvc.perform(post("/transactions/{id}/officers", TRANS_ID).content(body)
@@ -526,7 +550,7 @@ class OfficerFilingControllerImplIT {
                 .build()); // copy of first argument
         when(clock.instant()).thenReturn(FIRST_INSTANT);
         when(transactionService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER)).thenReturn(transaction);
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
         when(companyProfileService.getCompanyProfile(TRANS_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER)).thenReturn(companyProfileApi);
         when(filingMapper.map(dto)).thenReturn(filing);
         mockMvc.perform(post("/transactions/{id}/officers", TRANS_ID).content(body)
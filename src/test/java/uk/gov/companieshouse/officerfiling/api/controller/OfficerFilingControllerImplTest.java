@@ -3,25 +3,36 @@ package uk.gov.companieshouse.officerfiling.api.controller;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.refEq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.officerfiling.api.controller.OfficerFilingControllerImpl.VALIDATION_STATUS;
 import static uk.gov.companieshouse.officerfiling.api.model.entity.Links.PREFIX_PRIVATE;
+import static uk.gov.companieshouse.officerfiling.api.utils.Constants.OFFICER_FILING_KEY;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import jakarta.servlet.http.HttpServletRequest;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,27 +41,39 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.util.UriComponentsBuilder;
+import uk.gov.companieshouse.api.error.ApiError;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.api.model.delta.officers.AppointmentFullRecordAPI;
 import uk.gov.companieshouse.api.model.transaction.Resource;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
 import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.officerfiling.api.error.ApiErrors;
 import uk.gov.companieshouse.officerfiling.api.error.InvalidFilingException;
 import uk.gov.companieshouse.officerfiling.api.exception.FeatureNotEnabledException;
 import uk.gov.companieshouse.officerfiling.api.model.dto.OfficerFilingDto;
+import uk.gov.companieshouse.officerfiling.api.model.dto.OfficerFilingDtoList;
+import uk.gov.companieshouse.officerfiling.api.model.dto.OfficerTerminationDto;
+import uk.gov.companieshouse.officerfiling.api.model.dto.OfficerTerminationDtoList;
+import uk.gov.companieshouse.officerfiling.api.model.dto.OfficerTerminationResultDto;
 import uk.gov.companieshouse.officerfiling.api.model.entity.Links;
 import uk.gov.companieshouse.officerfiling.api.model.entity.OfficerFiling;
 import uk.gov.companieshouse.officerfiling.api.model.entity.OfficerFilingData;
+import uk.gov.companieshouse.officerfiling.api.model.mapper.ErrorMapper;
 import uk.gov.companieshouse.officerfiling.api.model.mapper.OfficerFilingMapper;
 import uk.gov.companieshouse.officerfiling.api.service.CompanyAppointmentServiceImpl;
 import uk.gov.companieshouse.officerfiling.api.service.CompanyProfileServiceImpl;
 import uk.gov.companieshouse.officerfiling.api.service.OfficerFilingService;
+import uk.gov.companieshouse.officerfiling.api.service.OfficerService;
 import uk.gov.companieshouse.officerfiling.api.service.TransactionService;
+import uk.gov.companieshouse.officerfiling.api.validation.OfficerTerminationValidator;
 import uk.gov.companieshouse.sdk.manager.ApiSdkManager;
 
 @ExtendWith(MockitoExtension.class)
@@ -69,6 +92,8 @@ class OfficerFilingControllerImplTest {
     @Mock
     private TransactionService transactionService;
     @Mock
+    private OfficerService officerService;
+    @Mock
     private CompanyProfileServiceImpl companyProfileService;
     @Mock
     private CompanyAppointmentServiceImpl companyAppointmentService;
@@ -83,6 +108,10 @@ class OfficerFilingControllerImplTest {
     @Mock
     private OfficerFilingMapper filingMapper;
     @Mock
+    private OfficerTerminationValidator officerTerminationValidator;
+    @Mock
+    private ErrorMapper errorMapper;
+    @Mock
     private OfficerFilingDto dto;
     @Mock
     private BindingResult result;
@@ -98,8 +127,10 @@ class OfficerFilingControllerImplTest {
     @BeforeEach
     void setUp() {
         testController = new OfficerFilingControllerImpl(transactionService, officerFilingService,
-                filingMapper, clock, logger);
+                officerService, filingMapper, officerTerminationValidator, errorMapper, clock,
+                () -> new ObjectId(FILING_ID), logger);
         ReflectionTestUtils.setField(testController, "isTm01Enabled", true);
+        ReflectionTestUtils.setField(testController, "maxBatchSize", 100);
         var offData = new OfficerFilingData(
                 "etag",
                 "off-id",
@@ -125,9 +156,10 @@ class OfficerFilingControllerImplTest {
                 .build();
         final var withLinks = OfficerFiling.builder(withFilingId).links(links)
                 .build();
-        when(officerFilingService.save(filing, TRANS_ID)).thenReturn(withFilingId);
         when(officerFilingService.save(withLinks, TRANS_ID)).thenReturn(withLinks);
 
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+
         final var response =
                 testController.createFiling(transaction, dto, nullBindingResult ? null : result,
                         request);
@@ -135,73 +167,112 @@ class OfficerFilingControllerImplTest {
         // refEq needed to compare Map value objects; Resource does not override equals()
         verify(transaction).setResources(refEq(resourceMap));
         verify(transactionService).updateTransaction(transaction, PASSTHROUGH_HEADER);
+        verify(officerService).invalidateListOfActiveDirectors(COMPANY_NUMBER);
+        verify(officerFilingService, times(1)).save(withLinks, TRANS_ID);
         assertThat(response.getStatusCode(), is(HttpStatus.CREATED));
     }
 
+    @Test
+    void createFilingWhenUserGoesBackAndSelectsAnotherDirector() {
+        final var otherDto = mock(OfficerFilingDto.class);
+        final var otherFiling = OfficerFiling.builder(filing)
+                .data(new OfficerFilingData("other-etag", "other-off-id", Instant.parse("2022-09-14T00:00:00Z")))
+                .build();
+        when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(PASSTHROUGH_HEADER);
+        when(request.getRequestURI()).thenReturn(REQUEST_URI.toString());
+        when(clock.instant()).thenReturn(FIRST_INSTANT);
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        // The transaction holds the first filing once it has been created
+        when(transaction.getResources()).thenReturn(null, createResources());
+        when(filingMapper.map(dto)).thenReturn(filing);
+        when(filingMapper.map(otherDto)).thenReturn(otherFiling);
+        when(officerFilingService.save(any(OfficerFiling.class), eq(TRANS_ID)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        final var response = testController.createFiling(transaction, dto, result, request);
+        final var otherResponse = testController.createFiling(transaction, otherDto, result, request);
+
+        final var saved = (OfficerFiling) Objects.requireNonNull(otherResponse.getBody());
+        assertThat(((OfficerFiling) Objects.requireNonNull(response.getBody())).getId(), is(FILING_ID));
+        assertThat(saved.getId(), is(FILING_ID));
+        assertThat(saved.getData().getReferenceAppointmentId(), is("other-off-id"));
+        verify(transaction, times(2)).setResources(refEq(resourceMap));
+        verify(transactionService, times(1)).updateTransaction(transaction, PASSTHROUGH_HEADER);
+    }
+
     @Test
     void createFilingWithExistingSubmission() {
-        final var resources = new HashMap<String,Resource>();
-        final var resource = new Resource();
-        final Map <String,String> resourcesMap = new HashMap<>();
-        resourcesMap.put("resource","/transactions/115025-478816-868338/officers/648b0b3a246067277f8dcb70");
-        resource.setLinks(resourcesMap);
-        resources.put("/transactions/115025-478816-868338/officers/648b0b3a246067277f8dcb70", resource);
+        testController = new OfficerFilingControllerImpl(transactionService, officerFilingService,
+                officerService, filingMapper, officerTerminationValidator, errorMapper, clock,
+                () -> new ObjectId("6332aa6ed28ad2333c3a520b"), logger);
+        ReflectionTestUtils.setField(testController, "isTm01Enabled", true);
         when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(PASSTHROUGH_HEADER);
         when(request.getRequestURI()).thenReturn(REQUEST_URI.toString());
         when(clock.instant()).thenReturn(FIRST_INSTANT);
         when(transaction.getId()).thenReturn(TRANS_ID);
-        when(transaction.getResources()).thenReturn(resources);
+        when(transaction.getResources()).thenReturn(createResources());
         when(filingMapper.map(dto)).thenReturn(filing);
-        final var withFilingId = OfficerFiling.builder(filing).id(FILING_ID)
+        final var withLinks = OfficerFiling.builder(filing).id(FILING_ID).links(links)
                 .build();
-        final var withLinks = OfficerFiling.builder(withFilingId).links(links)
-                .build();
-        when(officerFilingService.save(filing, TRANS_ID)).thenReturn(withFilingId);
         when(officerFilingService.save(withLinks, TRANS_ID)).thenReturn(withLinks);
 
-        final var response =
-                testController.createFiling(transaction, dto, result,
-                        request);
+        final var response = testController.createFiling(transaction, dto, result, request);
 
         // refEq needed to compare Map value objects; Resource does not override equals()
         verify(transaction).setResources(refEq(resourceMap));
         verify(transactionService, never()).updateTransaction(transaction, PASSTHROUGH_HEADER);
         assertThat(response.getStatusCode(), is(HttpStatus.CREATED));
-
+        assertThat(((OfficerFiling) Objects.requireNonNull(response.getBody())).getId(), is(FILING_ID));
     }
 
     @Test
     void createFilingWithExistingSubmissionAndDescription() {
-        final var resources = new HashMap<String,Resource>();
-        final var resource = new Resource();
-        final Map <String,String> resourcesMap = new HashMap<>();
-        resourcesMap.put("resource","/transactions/115025-478816-868338/officers/648b0b3a246067277f8dcb70");
-        resource.setLinks(resourcesMap);
-        resources.put("/transactions/115025-478816-868338/officers/648b0b3a246067277f8dcb70", resource);
         when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(PASSTHROUGH_HEADER);
         when(request.getRequestURI()).thenReturn(REQUEST_URI.toString());
         when(clock.instant()).thenReturn(FIRST_INSTANT);
         when(transaction.getId()).thenReturn(TRANS_ID);
-        when(transaction.getResources()).thenReturn(resources);
+        when(transaction.getResources()).thenReturn(createResources());
         when(filingMapper.map(dto)).thenReturn(filing);
         when(dto.getDescription()).thenReturn(FILING_DESCRIPTION);
-        final var withFilingId = OfficerFiling.builder(filing).id(FILING_ID)
-                .build();
-        final var withLinks = OfficerFiling.builder(withFilingId).links(links)
+        final var withLinks = OfficerFiling.builder(filing).id(FILING_ID).links(links)
                 .build();
-        when(officerFilingService.save(filing, TRANS_ID)).thenReturn(withFilingId);
         when(officerFilingService.save(withLinks, TRANS_ID)).thenReturn(withLinks);
 
-        final var response =
-                testController.createFiling(transaction, dto, result,
-                        request);
+        final var response = testController.createFiling(transaction, dto, result, request);
 
         // refEq needed to compare Map value objects; Resource does not override equals()
         verify(transaction).setResources(refEq(resourceMap));
         verify(transaction).setDescription(FILING_DESCRIPTION);
         verify(transactionService).updateTransaction(transaction, PASSTHROUGH_HEADER);
         assertThat(response.getStatusCode(), is(HttpStatus.CREATED));
+    }
+
+    @Test
+    void createFilingAddsNewFilingWhenTransactionHasSeveral() {
+        final var resources = createResources();
+        final var otherResource = new Resource();
+        final var otherSelf = REQUEST_URI + "/6332aa6ed28ad2333c3a520b";
+        otherResource.setKind("officer-filing");
+        otherResource.setLinks(Map.of("resource", otherSelf));
+        resources.put(otherSelf, otherResource);
+        testController = new OfficerFilingControllerImpl(transactionService, officerFilingService,
+                officerService, filingMapper, officerTerminationValidator, errorMapper, clock,
+                () -> new ObjectId("6332aa6ed28ad2333c3a520c"), logger);
+        ReflectionTestUtils.setField(testController, "isTm01Enabled", true);
+        when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(PASSTHROUGH_HEADER);
+        when(request.getRequestURI()).thenReturn(REQUEST_URI.toString());
+        when(clock.instant()).thenReturn(FIRST_INSTANT);
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(transaction.getResources()).thenReturn(resources);
+        when(filingMapper.map(dto)).thenReturn(filing);
+        when(officerFilingService.save(any(OfficerFiling.class), eq(TRANS_ID)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
 
+        final var response = testController.createFiling(transaction, dto, result, request);
+
+        assertThat(((OfficerFiling) Objects.requireNonNull(response.getBody())).getId(),
+                is("6332aa6ed28ad2333c3a520c"));
+        verify(transactionService).updateTransaction(transaction, PASSTHROUGH_HEADER);
     }
 
     @ParameterizedTest
@@ -223,7 +294,6 @@ class OfficerFilingControllerImplTest {
                 .build();
         final var withLinks = OfficerFiling.builder(withFilingId).links(links)
                 .build();
-        when(officerFilingService.save(filing, TRANS_ID)).thenReturn(withFilingId);
         when(officerFilingService.save(withLinks, TRANS_ID)).thenReturn(withLinks);
 
         final var response = testController.createFiling(transaction, dto, result, request);
@@ -247,7 +317,6 @@ class OfficerFilingControllerImplTest {
                 .build();
         final var withLinks = OfficerFiling.builder(withFilingId).links(links)
                 .build();
-        when(officerFilingService.save(filing, TRANS_ID)).thenReturn(withFilingId);
         when(officerFilingService.save(withLinks, TRANS_ID)).thenReturn(withLinks);
         when(dto.getDescription()).thenReturn(FILING_DESCRIPTION);
 
@@ -271,7 +340,6 @@ class OfficerFilingControllerImplTest {
                 .build();
         final var withLinks = OfficerFiling.builder(withFilingId).links(links)
                 .build();
-        when(officerFilingService.save(filing, TRANS_ID)).thenReturn(withFilingId);
         when(officerFilingService.save(withLinks, TRANS_ID)).thenReturn(withLinks);
         when(dto.getDescription()).thenReturn(FILING_DESCRIPTION);
         when(transaction.getDescription()).thenReturn(FILING_DESCRIPTION);
@@ -285,6 +353,207 @@ class OfficerFilingControllerImplTest {
         assertThat(Objects.requireNonNull(filingResponse).getId(), is(FILING_ID));
     }
 
+    @Test
+    void createFilings() {
+        final var otherFilingId = "6332aa6ed28ad2333c3a520b";
+        final var filingIds = List.of(FILING_ID, otherFilingId).iterator();
+        testController = new OfficerFilingControllerImpl(transactionService, officerFilingService,
+                officerService, filingMapper, officerTerminationValidator, errorMapper, clock,
+                () -> new ObjectId(filingIds.next()), logger);
+        ReflectionTestUtils.setField(testController, "isTm01Enabled", true);
+        ReflectionTestUtils.setField(testController, "maxBatchSize", 2);
+        when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(PASSTHROUGH_HEADER);
+        when(request.getRequestURI()).thenReturn(REQUEST_URI + "/batch");
+        when(clock.instant()).thenReturn(FIRST_INSTANT);
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(filingMapper.map(dto)).thenReturn(filing);
+        when(dto.getDescription()).thenReturn(FILING_DESCRIPTION);
+        final var builder = UriComponentsBuilder.fromUri(REQUEST_URI).pathSegment(otherFilingId);
+        final var otherLinks = new Links(builder.build().toUri(),
+                builder.pathSegment(VALIDATION_STATUS).build().toUri());
+        final var filings = List.of(
+                OfficerFiling.builder(filing).id(FILING_ID).links(links).build(),
+                OfficerFiling.builder(filing).id(otherFilingId).links(otherLinks).build());
+        when(officerFilingService.saveAll(filings, TRANS_ID)).thenReturn(filings);
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+
+        final var response = testController.createFilings(transaction, new OfficerFilingDtoList(List.of(dto, dto)),
+                result, request);
+
+        final var otherSelf = REQUEST_URI + "/" + otherFilingId;
+        final var otherResource = new Resource();
+        otherResource.setKind("officer-filing");
+        otherResource.setLinks(Map.of("resource", otherSelf, VALIDATION_STATUS,
+                PREFIX_PRIVATE + "/" + otherSelf + "/" + VALIDATION_STATUS));
+        otherResource.setUpdatedAt(FIRST_INSTANT.atZone(ZoneId.systemDefault()).toLocalDateTime());
+        resourceMap.put(otherSelf, otherResource);
+        // refEq needed to compare Map value objects; Resource does not override equals()
+        verify(transaction).setResources(refEq(resourceMap));
+        verify(transaction).setDescription(FILING_DESCRIPTION);
+        verify(transactionService, times(1)).updateTransaction(transaction, PASSTHROUGH_HEADER);
+        verify(officerService).invalidateListOfActiveDirectors(COMPANY_NUMBER);
+        verify(officerFilingService, never()).save(any(OfficerFiling.class), eq(TRANS_ID));
+        assertThat(response.getStatusCode(), is(HttpStatus.CREATED));
+        assertThat(response.getBody(), is(filings));
+    }
+
+    @Test
+    void createFilingsWhenNoFilings() {
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        final var filings = new OfficerFilingDtoList(List.of());
+
+        final var exception = assertThrows(InvalidFilingException.class,
+                () -> testController.createFilings(transaction, filings, result, request));
+
+        assertThat(exception.getFieldErrors().get(0).getDefaultMessage(), is("No filings to create"));
+        verify(transactionService, never()).updateTransaction(transaction, PASSTHROUGH_HEADER);
+    }
+
+    @Test
+    void createFilingsWhenTooManyFilings() {
+        ReflectionTestUtils.setField(testController, "maxBatchSize", 1);
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        final var filings = new OfficerFilingDtoList(List.of(dto, dto));
+
+        final var exception = assertThrows(InvalidFilingException.class,
+                () -> testController.createFilings(transaction, filings, result, request));
+
+        assertThat(exception.getFieldErrors().get(0).getDefaultMessage(),
+                is("At most 1 can be created by one request"));
+        verify(officerFilingService, never()).saveAll(any(), eq(TRANS_ID));
+    }
+
+    @Test
+    void createFilingsWhenRequestHasBindingError() {
+        final var fieldError = new FieldError("officerFilingDtoList", "filings[1]", "must not be null");
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(result.hasErrors()).thenReturn(true);
+        when(result.getFieldErrors()).thenReturn(List.of(fieldError));
+        final var filings = new OfficerFilingDtoList(List.of(dto));
+
+        final var exception = assertThrows(InvalidFilingException.class,
+                () -> testController.createFilings(transaction, filings, result, request));
+
+        assertThat(exception.getFieldErrors(), contains(fieldError));
+        verify(officerFilingService, never()).saveAll(any(), eq(TRANS_ID));
+    }
+
+    @Test
+    void createTerminations() {
+        final var resignedOn = LocalDate.of(2022, 9, 13);
+        final var invalidDto = OfficerFilingDto.builder().referenceAppointmentId("invalid-id")
+                .referenceEtag("etag").resignedOn(resignedOn).build();
+        final var validDto = OfficerFilingDto.builder().referenceAppointmentId("valid-id")
+                .referenceEtag("etag").resignedOn(resignedOn).build();
+        final var dtos = List.of(invalidDto, validDto);
+        final var apiError = new ApiError("error", REQUEST_URI.toString(), "json-path", "ch:validation");
+        final var validationStatusError = new ValidationStatusError();
+        when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(PASSTHROUGH_HEADER);
+        when(request.getRequestURI()).thenReturn(REQUEST_URI + "/terminations");
+        when(clock.instant()).thenReturn(FIRST_INSTANT);
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(officerTerminationValidator.validateAll(request, dtos, transaction, PASSTHROUGH_HEADER)).thenReturn(
+                List.of(new ApiErrors(List.of(apiError)), new ApiErrors()));
+        when(errorMapper.map(Set.of(apiError))).thenReturn(new ValidationStatusError[]{validationStatusError});
+        when(filingMapper.map(validDto)).thenReturn(filing);
+        final var withLinks = OfficerFiling.builder(filing).id(FILING_ID).links(links).build();
+        when(officerFilingService.saveAll(List.of(withLinks), TRANS_ID)).thenReturn(List.of(withLinks));
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+
+        final var response = testController.createTerminations(transaction, new OfficerTerminationDtoList(List.of(
+                        new OfficerTerminationDto("invalid-id", "etag", resignedOn),
+                        new OfficerTerminationDto("valid-id", "etag", resignedOn))),
+                result, request);
+
+        // refEq needed to compare Map value objects; Resource does not override equals()
+        verify(transaction).setResources(refEq(resourceMap));
+        verify(transactionService).updateTransaction(transaction, PASSTHROUGH_HEADER);
+        verify(officerService).invalidateListOfActiveDirectors(COMPANY_NUMBER);
+        assertThat(response.getStatusCode(), is(HttpStatus.MULTI_STATUS));
+        assertThat(response.getBody(), contains(
+                new OfficerTerminationResultDto("invalid-id", null, false, List.of(validationStatusError)),
+                new OfficerTerminationResultDto("valid-id", withLinks, true, null)));
+    }
+
+    @Test
+    void createTerminationsWhenAllValid() {
+        final var validDto = OfficerFilingDto.builder().referenceAppointmentId("valid-id").build();
+        when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(PASSTHROUGH_HEADER);
+        when(request.getRequestURI()).thenReturn(REQUEST_URI + "/terminations");
+        when(clock.instant()).thenReturn(FIRST_INSTANT);
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(officerTerminationValidator.validateAll(request, List.of(validDto), transaction, PASSTHROUGH_HEADER))
+                .thenReturn(List.of(new ApiErrors()));
+        when(filingMapper.map(validDto)).thenReturn(filing);
+        final var withLinks = OfficerFiling.builder(filing).id(FILING_ID).links(links).build();
+        when(officerFilingService.saveAll(List.of(withLinks), TRANS_ID)).thenReturn(List.of(withLinks));
+
+        final var response = testController.createTerminations(transaction,
+                new OfficerTerminationDtoList(List.of(new OfficerTerminationDto("valid-id", null, null))),
+                result, request);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.CREATED));
+        assertThat(response.getBody(), contains(
+                new OfficerTerminationResultDto("valid-id", withLinks, true, null)));
+    }
+
+    @Test
+    void createTerminationsWhenAllInvalid() {
+        final var dtos = List.of(OfficerFilingDto.builder().referenceAppointmentId("invalid-id").build());
+        final var apiError = new ApiError("error", REQUEST_URI.toString(), "json-path", "ch:validation");
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(officerTerminationValidator.validateAll(request, dtos, transaction, null)).thenReturn(
+                List.of(new ApiErrors(List.of(apiError))));
+        when(errorMapper.map(Set.of(apiError))).thenReturn(new ValidationStatusError[0]);
+
+        final var response = testController.createTerminations(transaction,
+                new OfficerTerminationDtoList(List.of(new OfficerTerminationDto("invalid-id", null, null))),
+                result, request);
+
+        verify(officerFilingService, never()).saveAll(any(), eq(TRANS_ID));
+        verify(transactionService, never()).updateTransaction(transaction, null);
+        verifyNoInteractions(officerService);
+        assertThat(response.getStatusCode(), is(HttpStatus.MULTI_STATUS));
+        assertThat(response.getBody(), contains(
+                new OfficerTerminationResultDto("invalid-id", null, false, List.of())));
+    }
+
+    @Test
+    void createTerminationsWhenAppointmentRepeated() {
+        final var termination = new OfficerTerminationDto("off-id", null, null);
+        final var terminations = new OfficerTerminationDtoList(List.of(termination, termination));
+        when(transaction.getId()).thenReturn(TRANS_ID);
+
+        final var exception = assertThrows(InvalidFilingException.class,
+                () -> testController.createTerminations(transaction, terminations, result, request));
+
+        assertThat(exception.getFieldErrors(), hasSize(1));
+        assertThat(exception.getFieldErrors().get(0).getRejectedValue(), is("off-id"));
+        assertThat(exception.getFieldErrors().get(0).getDefaultMessage(),
+                is("Officer is terminated more than once by the request"));
+        verifyNoInteractions(officerTerminationValidator);
+    }
+
+    @Test
+    void createTerminationsWhenAppointmentAlreadyFiled() {
+        final var terminations = new OfficerTerminationDtoList(List.of(
+                new OfficerTerminationDto("off-id", null, null),
+                new OfficerTerminationDto("other-id", null, null)));
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(transaction.getResources()).thenReturn(getResourcesForFiling());
+        when(officerFilingService.getAll(List.of(FILING_ID), TRANS_ID)).thenReturn(List.of(filing));
+
+        final var exception = assertThrows(InvalidFilingException.class,
+                () -> testController.createTerminations(transaction, terminations, result, request));
+
+        assertThat(exception.getFieldErrors(), hasSize(1));
+        assertThat(exception.getFieldErrors().get(0).getRejectedValue(), is("off-id"));
+        assertThat(exception.getFieldErrors().get(0).getDefaultMessage(),
+                is("Officer already has a filing in the transaction"));
+        verifyNoInteractions(officerTerminationValidator);
+        verify(officerFilingService, never()).saveAll(any(), eq(TRANS_ID));
+    }
+
     @ParameterizedTest(name = "[{index}] null binding result={0}")
     @ValueSource(booleans = {true, false})
     void patchFiling(final boolean nullBindingResult) {
@@ -299,7 +568,6 @@ class OfficerFilingControllerImplTest {
                 .build();
         final var withLinks = OfficerFiling.builder(withFilingId).links(links)
                 .build();
-        when(officerFilingService.save(filing, TRANS_ID)).thenReturn(withFilingId);
         when(officerFilingService.save(withLinks, TRANS_ID)).thenReturn(withLinks);
 
         final var response =
@@ -320,6 +588,117 @@ class OfficerFilingControllerImplTest {
         assertThat(mergeResponse.getStatusCode(), is(HttpStatus.OK));
     }
 
+    @Test
+    void patchFilingInPlace() {
+        ReflectionTestUtils.setField(testController, "isPatchInPlaceEnabled", true);
+        when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(PASSTHROUGH_HEADER);
+        when(request.getRequestURI()).thenReturn(REQUEST_URI.toString());
+        when(clock.instant()).thenReturn(FIRST_INSTANT);
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(transaction.getResources()).thenReturn(getResourcesForFiling());
+        when(filingMapper.map(dto)).thenReturn(filing);
+        final var updated = OfficerFiling.builder(filing).id(FILING_ID).links(links)
+                .build();
+        when(officerFilingService.updateData(FILING_ID, filing, FIRST_INSTANT, null, TRANS_ID)).thenReturn(
+                Optional.of(updated));
+
+        final var response = testController.patchFiling(transaction, dto, FILING_ID, result, request);
+
+        verify(transaction).setResources(refEq(resourceMap));
+        verify(transactionService).updateTransaction(transaction, PASSTHROUGH_HEADER);
+        verify(officerFilingService, never()).get(FILING_ID, TRANS_ID);
+        verify(officerFilingService, never()).save(updated, TRANS_ID);
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody(), is(updated));
+    }
+
+    @Test
+    void patchFilingSkipsTransactionUpdateWhenResourceUnchanged() {
+        when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(PASSTHROUGH_HEADER);
+        when(request.getRequestURI()).thenReturn(REQUEST_URI.toString());
+        when(clock.instant()).thenReturn(FIRST_INSTANT);
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(transaction.getDescription()).thenReturn("description");
+        when(transaction.getResources()).thenReturn(createResources());
+        when(filingMapper.map(dto)).thenReturn(filing);
+        final var withLinks = OfficerFiling.builder(filing).id(FILING_ID).links(links)
+                .build();
+        when(officerFilingService.save(withLinks, TRANS_ID)).thenReturn(withLinks);
+
+        final var response = testController.patchFiling(transaction, dto, FILING_ID, result, request);
+
+        verify(transaction, never()).setResources(any());
+        verify(transactionService, never()).updateTransaction(transaction, PASSTHROUGH_HEADER);
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+    }
+
+    @Test
+    void patchFilingUpdatesTransactionWhenDescriptionChanged() {
+        when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(PASSTHROUGH_HEADER);
+        when(request.getRequestURI()).thenReturn(REQUEST_URI.toString());
+        when(clock.instant()).thenReturn(FIRST_INSTANT);
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(transaction.getDescription()).thenReturn("description");
+        when(transaction.getResources()).thenReturn(createResources());
+        when(dto.getDescription()).thenReturn("new description");
+        when(filingMapper.map(dto)).thenReturn(filing);
+        final var withLinks = OfficerFiling.builder(filing).id(FILING_ID).links(links)
+                .build();
+        when(officerFilingService.save(withLinks, TRANS_ID)).thenReturn(withLinks);
+
+        final var response = testController.patchFiling(transaction, dto, FILING_ID, result, request);
+
+        verify(transaction).setDescription("new description");
+        verify(transaction).setResources(refEq(resourceMap));
+        verify(transactionService).updateTransaction(transaction, PASSTHROUGH_HEADER);
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+    }
+
+    @Test
+    void patchFilingWhenIfMatchMatches() {
+        when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(PASSTHROUGH_HEADER);
+        when(request.getHeaders(HttpHeaders.IF_MATCH)).thenReturn(
+                Collections.enumeration(List.of("\"3\"")));
+        when(request.getRequestURI()).thenReturn(REQUEST_URI.toString());
+        when(clock.instant()).thenReturn(FIRST_INSTANT);
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(transaction.getResources()).thenReturn(getResourcesForFiling());
+        when(filingMapper.map(dto)).thenReturn(filing);
+        final var stored = OfficerFiling.builder(filing).id(FILING_ID).version(3L)
+                .build();
+        when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(stored));
+        when(officerFilingService.mergeFilings(stored, filing, transaction)).thenReturn(stored);
+        final var withLinks = OfficerFiling.builder(stored).links(links)
+                .build();
+        when(officerFilingService.save(withLinks, TRANS_ID)).thenReturn(
+                OfficerFiling.builder(withLinks).version(4L).build());
+
+        final var response = testController.patchFiling(transaction, dto, FILING_ID, result, request);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getHeaders().getETag(), is("\"4\""));
+    }
+
+    @Test
+    void patchFilingWhenIfMatchDoesNotMatch() {
+        when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(PASSTHROUGH_HEADER);
+        when(request.getHeaders(HttpHeaders.IF_MATCH)).thenReturn(
+                Collections.enumeration(List.of("\"2\"")));
+        when(request.getRequestURI()).thenReturn(REQUEST_URI.toString());
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(transaction.getResources()).thenReturn(getResourcesForFiling());
+        when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(
+                Optional.of(OfficerFiling.builder(filing).id(FILING_ID).version(3L).build()));
+
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> testController.patchFiling(transaction, dto, FILING_ID, result, request));
+        verify(officerFilingService, never()).save(any(OfficerFiling.class), eq(TRANS_ID));
+        verify(transactionService, never()).updateTransaction(transaction, PASSTHROUGH_HEADER);
+    }
+
     @Test
     void patchFilingWithInvalidSubmissionId() {
         when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(PASSTHROUGH_HEADER);
@@ -394,16 +773,64 @@ class OfficerFilingControllerImplTest {
         when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(filing));
 
         final var response =
-            testController.getFilingForReview(transaction, FILING_ID);
+            testController.getFilingForReview(transaction, FILING_ID, request);
 
         assertThat(response.getStatusCode(), is(HttpStatus.OK));
         assertThat(response.getBody(), is(dto));
     }
 
+    @Test
+    void getFilingForReviewHasETagOfVersion() {
+        final var versioned = OfficerFiling.builder(filing).version(7L).build();
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(transaction.getResources()).thenReturn(getResourcesForFiling());
+        when(filingMapper.map(versioned)).thenReturn(dto);
+        when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(versioned));
+
+        final var response =
+            testController.getFilingForReview(transaction, FILING_ID, request);
+
+        assertThat(response.getBody(), is(dto));
+        assertThat(response.getHeaders().getETag(), is("\"7\""));
+    }
+
+    @Test
+    void getFilingForReviewWhenNotModified() {
+        final var versioned = OfficerFiling.builder(filing).version(7L).build();
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(transaction.getResources()).thenReturn(getResourcesForFiling());
+        when(request.getHeaders(HttpHeaders.IF_NONE_MATCH)).thenReturn(
+                Collections.enumeration(List.of("\"6\", \"7\"")));
+        when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(versioned));
+
+        final var response =
+            testController.getFilingForReview(transaction, FILING_ID, request);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.NOT_MODIFIED));
+        assertThat(response.getHeaders().getETag(), is("\"7\""));
+        assertThat(response.hasBody(), is(false));
+        verify(filingMapper, never()).map(versioned);
+    }
+
+    @Test
+    void getFilingForReviewReusesFilingReadByInterceptor() {
+        final var readFiling = OfficerFiling.builder(filing).id(FILING_ID).build();
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(transaction.getResources()).thenReturn(getResourcesForFiling());
+        when(request.getAttribute(OFFICER_FILING_KEY)).thenReturn(readFiling);
+        when(filingMapper.map(readFiling)).thenReturn(dto);
+
+        final var response =
+            testController.getFilingForReview(transaction, FILING_ID, request);
+
+        assertThat(response.getBody(), is(dto));
+        verify(officerFilingService, never()).get(FILING_ID, TRANS_ID);
+    }
+
     @Test
     void getFilingWhenNoTransaction() {
         assertThrows(InvalidFilingException.class,
-            () -> testController.getFilingForReview(null, FILING_ID));
+            () -> testController.getFilingForReview(null, FILING_ID, request));
     }
 
     @Test
@@ -413,7 +840,7 @@ class OfficerFilingControllerImplTest {
         when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.empty());
 
         final var response =
-            testController.getFilingForReview(transaction, FILING_ID);
+            testController.getFilingForReview(transaction, FILING_ID, request);
 
         assertThat(response.getStatusCode(), is(HttpStatus.NOT_FOUND));
     }
@@ -423,7 +850,7 @@ class OfficerFilingControllerImplTest {
         when(transaction.getResources()).thenReturn(null);
        
         assertThrows(InvalidFilingException.class,
-            () -> testController.getFilingForReview(transaction, FILING_ID));
+            () -> testController.getFilingForReview(transaction, FILING_ID, request));
     }
 
     @Test
@@ -431,7 +858,7 @@ class OfficerFilingControllerImplTest {
         when(transaction.getResources()).thenReturn(new HashMap<>());
        
         assertThrows(InvalidFilingException.class,
-            () -> testController.getFilingForReview(transaction, FILING_ID));
+            () -> testController.getFilingForReview(transaction, FILING_ID, request));
     }
 
     @Test
@@ -440,7 +867,7 @@ class OfficerFilingControllerImplTest {
         when(transaction.getResources()).thenReturn(getResourcesForFiling("some-other-filing-id"));
        
         assertThrows(InvalidFilingException.class,
-        () -> testController.getFilingForReview(transaction, FILING_ID));
+        () -> testController.getFilingForReview(transaction, FILING_ID, request));
     }
 
     @Test
@@ -451,7 +878,7 @@ class OfficerFilingControllerImplTest {
         assertThrows(FeatureNotEnabledException.class,
                 () -> testController.patchFiling(transaction, dto, null, result, request));
         assertThrows(FeatureNotEnabledException.class,
-            () -> testController.getFilingForReview(transaction, FILING_ID));
+            () -> testController.getFilingForReview(transaction, FILING_ID, request));
     }
 
     @Test
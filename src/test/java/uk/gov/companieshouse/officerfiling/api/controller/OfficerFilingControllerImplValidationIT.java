@@ -1,11 +1,13 @@
 package uk.gov.companieshouse.officerfiling.api.controller;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -27,6 +29,7 @@ import uk.gov.companieshouse.officerfiling.api.model.mapper.OfficerFilingMapper;
 import uk.gov.companieshouse.officerfiling.api.service.CompanyAppointmentService;
 import uk.gov.companieshouse.officerfiling.api.service.CompanyProfileService;
 import uk.gov.companieshouse.officerfiling.api.service.OfficerFilingService;
+import uk.gov.companieshouse.officerfiling.api.service.OfficerService;
 import uk.gov.companieshouse.officerfiling.api.service.TransactionService;
 
 import java.io.IOException;
@@ -50,6 +53,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @Tag("web")
 @WebMvcTest(controllers = OfficerFilingControllerImpl.class)
+@Import(SimpleMeterRegistry.class)
 class OfficerFilingControllerImplValidationIT {
     private static final String TRANS_ID = "4f56fdf78b357bfc";
     private static final String FILING_ID = "632c8e65105b1b4a9f0d1f5e";
@@ -71,6 +75,8 @@ class OfficerFilingControllerImplValidationIT {
     @MockitoBean
     private OfficerFilingService officerFilingService;
     @MockitoBean
+    private OfficerService officerService;
+    @MockitoBean
     private CompanyProfileService companyProfileService;
     @MockitoBean
     private CompanyAppointmentService companyAppointmentService;
@@ -148,7 +154,7 @@ class OfficerFilingControllerImplValidationIT {
                                 .build()) // copy of 'filing' with id=FILING_ID
                 .thenAnswer(i -> OfficerFiling.builder(i.getArgument(0))
                         .build()); // copy of first argument
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
 
         mockMvc.perform(post("/transactions/{id}/officers", TRANS_ID).content(body)
                         .contentType("application/json")
@@ -180,7 +186,7 @@ class OfficerFilingControllerImplValidationIT {
                                 .build()) // copy of 'filing' with id=FILING_ID
                 .thenAnswer(i -> OfficerFiling.builder(i.getArgument(0))
                         .build()); // copy of first argument
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
 
         mockMvc.perform(post("/transactions/{id}/officers", TRANS_ID).content(body)
                 .contentType("application/json")
@@ -216,7 +222,7 @@ class OfficerFilingControllerImplValidationIT {
                                 .build()) // copy of 'filing' with id=FILING_ID
                 .thenAnswer(i -> OfficerFiling.builder(i.getArgument(0))
                         .build()); // copy of first argument
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
 
         mockMvc.perform(post("/transactions/{id}/officers", TRANS_ID).content(body)
                         .contentType("application/json")
@@ -228,7 +234,7 @@ class OfficerFilingControllerImplValidationIT {
     @Test
     void createFilingWhenResignedOnInvalidThenResponse400() throws Exception {
         when(transactionService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER)).thenReturn(transaction);
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
         when(companyProfileService.getCompanyProfile(TRANS_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER)).thenReturn(companyProfileApi);
 
         final var body = "{"
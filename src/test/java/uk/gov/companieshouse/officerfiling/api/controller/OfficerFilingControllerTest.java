@@ -35,6 +35,6 @@ class OfficerFilingControllerTest {
     @Test
     void getFilingForReview() {
         assertThrows(NotImplementedException.class,
-                () -> testController.getFilingForReview(transaction, "filing-resource"));
+                () -> testController.getFilingForReview(transaction, "filing-resource", request));
     }
 }
\ No newline at end of file
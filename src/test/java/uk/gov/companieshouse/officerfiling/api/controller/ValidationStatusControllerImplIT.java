@@ -3,13 +3,16 @@ package uk.gov.companieshouse.officerfiling.api.controller;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.net.URI;
 import java.time.Clock;
@@ -24,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -48,6 +52,7 @@ import uk.gov.companieshouse.officerfiling.api.utils.LogHelper;
 
 @Tag("web")
 @WebMvcTest(controllers = ValidationStatusControllerImpl.class)
+@Import(SimpleMeterRegistry.class)
 class ValidationStatusControllerImplIT {
     private static final String TRANS_ID = "4f56fdf78b357bfc";
     private static final String FILING_ID = "632c8e65105b1b4a9f0d1f5e";
@@ -147,7 +152,7 @@ class ValidationStatusControllerImplIT {
                 .build();
 
         when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(filing));
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
         when(companyProfileService.getCompanyProfile(TRANS_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER)).thenReturn(companyProfileApi);
 
         mockMvc.perform(get("/transactions/{id}/officers/{filingId}/validation_status", TRANS_ID, FILING_ID)
@@ -169,7 +174,7 @@ class ValidationStatusControllerImplIT {
                 .build();
 
         when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(filing));
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
         when(companyProfileService.getCompanyProfile(TRANS_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER)).thenReturn(companyProfileApi);
 
         mockMvc.perform(get("/transactions/{id}/officers/{filingId}/validation_status", TRANS_ID, FILING_ID)
@@ -198,7 +203,7 @@ class ValidationStatusControllerImplIT {
         when(apiResponse.getData()).thenReturn(null);
 
         when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(filing));
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
         when(companyProfileService.getCompanyProfile(TRANS_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER)).thenReturn(companyProfileApi);
 
         mockMvc.perform(get("/transactions/{id}/officers/{filingId}/validation_status", TRANS_ID, FILING_ID)
@@ -218,8 +223,7 @@ class ValidationStatusControllerImplIT {
                 .build();
 
         when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(filing));
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID,
-                PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
         when(companyProfileService.getCompanyProfile(TRANS_ID, COMPANY_NUMBER,
                 PASSTHROUGH_HEADER)).thenReturn(companyProfileApi);
 
@@ -248,8 +252,7 @@ class ValidationStatusControllerImplIT {
         companyProfileApi.setDateOfCreation(LocalDate.of(2000, 1, 1));
         companyAppointment.setAppointedOn(LocalDate.of(2008, 1, 2));
         when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(filing));
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID,
-                PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
         when(companyProfileService.getCompanyProfile(TRANS_ID, COMPANY_NUMBER,
                 PASSTHROUGH_HEADER)).thenReturn(companyProfileApi);
 
@@ -277,8 +280,7 @@ class ValidationStatusControllerImplIT {
                 .build();
         companyProfileApi.setDateOfCreation(LocalDate.of(2020, 1, 1));
         when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(filing));
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID,
-                PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
         when(companyProfileService.getCompanyProfile(TRANS_ID, COMPANY_NUMBER,
                 PASSTHROUGH_HEADER)).thenReturn(companyProfileApi);
 
@@ -306,8 +308,7 @@ class ValidationStatusControllerImplIT {
         final var filing = OfficerFiling.builder().createdAt(now).updatedAt(now).data(offData).links(links)
                 .build();
         when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(filing));
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID,
-                PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
         when(companyProfileService.getCompanyProfile(TRANS_ID, COMPANY_NUMBER,
                 PASSTHROUGH_HEADER)).thenReturn(companyProfileApi);
 
@@ -334,8 +335,7 @@ class ValidationStatusControllerImplIT {
         final var filing = OfficerFiling.builder().createdAt(now).updatedAt(now).data(offData).id(FILING_ID).links(links)
                 .build();
         when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(filing));
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID,
-                PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
         when(companyProfileService.getCompanyProfile(TRANS_ID, COMPANY_NUMBER,
                 PASSTHROUGH_HEADER)).thenReturn(companyProfileApi);
 
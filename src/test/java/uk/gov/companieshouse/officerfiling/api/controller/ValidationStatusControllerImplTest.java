@@ -25,7 +25,11 @@ import uk.gov.companieshouse.officerfiling.api.service.CompanyAppointmentService
 import uk.gov.companieshouse.officerfiling.api.service.CompanyProfileService;
 import uk.gov.companieshouse.officerfiling.api.service.OfficerFilingService;
 import uk.gov.companieshouse.officerfiling.api.service.TransactionService;
+import uk.gov.companieshouse.officerfiling.api.validation.AddressValidator;
+import uk.gov.companieshouse.officerfiling.api.validation.AllowedValues;
+import uk.gov.companieshouse.officerfiling.api.validation.OfficerAppointmentValidator;
 import uk.gov.companieshouse.officerfiling.api.validation.OfficerTerminationValidator;
+import uk.gov.companieshouse.officerfiling.api.validation.OfficerUpdateValidator;
 import uk.gov.companieshouse.sdk.manager.ApiSdkManager;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -36,11 +40,17 @@ import java.time.Month;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -118,9 +128,13 @@ class ValidationStatusControllerImplTest {
 
     @BeforeEach
     void setUp() {
+        final var allowedValues = new AllowedValues(TOO_LONG_NATIONALITY_STRING, List.of("France"), List.of(""));
+        final var addressValidator = new AddressValidator(logger, companyProfileService, allowedValues, apiEnumerations);
         testController = new ValidationStatusControllerImpl(officerFilingService, logger,
-             companyProfileService, companyAppointmentService, officerFilingMapper,
-            errorMapper, apiEnumerations);
+            officerFilingMapper, errorMapper,
+            new OfficerTerminationValidator(logger, companyProfileService, companyAppointmentService, allowedValues, apiEnumerations),
+            new OfficerAppointmentValidator(logger, companyProfileService, apiEnumerations, allowedValues, addressValidator),
+            new OfficerUpdateValidator(logger, companyAppointmentService, companyProfileService, allowedValues, apiEnumerations, addressValidator));
         ReflectionTestUtils.setField(testController, "isTm01Enabled", true);
         ReflectionTestUtils.setField(testController, "isAp01Enabled", false);
 
@@ -151,13 +165,14 @@ class ValidationStatusControllerImplTest {
         final var response = testController.validate(transaction, FILING_ID, request);
         assertThat(response.getValidationStatusError(), is(nullValue()));
         assertThat(response.isValid(), is(true));
+        verify(officerFilingService, never()).save(any(), any());
     }
 
     @Test
     void validateWhenFilingFoundAndValidationErrors() {
         ReflectionTestUtils.setField(testController, "isAp01Enabled", false);
         validationStatusControllerMocks();
-        when(companyAppointmentService.getCompanyAppointment( TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
         when(dto.getReferenceEtag()).thenReturn("etag");
         when(dto.getReferenceAppointmentId()).thenReturn(FILING_ID);
         when(dto.getResignedOn()).thenReturn(LocalDate.of(1022, 9, 13));
@@ -199,10 +214,6 @@ class ValidationStatusControllerImplTest {
     @Test
     void validateWhenFilingAP01FoundAndNoValidationErrors() {
         ReflectionTestUtils.setField(testController, "isAp01Enabled", true);
-        ReflectionTestUtils.setField(testController, "inputAllowedNationalities", TOO_LONG_NATIONALITY_STRING);
-
-        ReflectionTestUtils.setField(testController, "ukCountryList", List.of(""));
-        ReflectionTestUtils.setField(testController, "countryList", List.of("France"));
         LocalDate localDateDob1 = LocalDate.of(1970, 9, 12);
         validationStatusControllerMocks();
         when(companyProfile.getType()).thenReturn(COMPANY_TYPE);
@@ -271,4 +282,24 @@ class ValidationStatusControllerImplTest {
 
         assertEquals(exception.getClass(), FeatureNotEnabledException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    void selectValidatorReusesOneValidatorPerFilingType() {
+        ReflectionTestUtils.setField(testController, "isAp01Enabled", true);
+        ReflectionTestUtils.setField(testController, "isCh01Enabled", true);
+        final var tm01 = OfficerFilingDto.builder().resignedOn(LocalDate.of(2023, 1, 1)).referenceEtag(ETAG).build();
+        final var ap01 = OfficerFilingDto.builder().build();
+        final var ch01 = OfficerFilingDto.builder().referenceEtag(ETAG).build();
+
+        final var tm01Validator = testController.selectValidator(tm01);
+        final var ap01Validator = testController.selectValidator(ap01);
+        final var ch01Validator = testController.selectValidator(ch01);
+
+        assertThat(tm01Validator, is(instanceOf(OfficerTerminationValidator.class)));
+        assertThat(ap01Validator, is(instanceOf(OfficerAppointmentValidator.class)));
+        assertThat(ch01Validator, is(instanceOf(OfficerUpdateValidator.class)));
+        assertThat(testController.selectValidator(tm01), is(sameInstance(tm01Validator)));
+        assertThat(testController.selectValidator(ap01), is(sameInstance(ap01Validator)));
+        assertThat(testController.selectValidator(ch01), is(sameInstance(ch01Validator)));
+    }
+}
@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.companieshouse.officerfiling.api.utils.Constants.OFFICER_FILING_KEY;
 
 import java.time.Instant;
 import java.util.HashMap;
@@ -92,6 +93,21 @@ class ValidTransactionInterceptorTest {
         var response = validTransactionInterceptor.preHandle(mockRequest, mockResponse, handler);
 
         assertThat(response, is(true));
+        verify(mockRequest).setAttribute(OFFICER_FILING_KEY, FILING);
+    }
+
+    @Test
+    void getOfficerFilingReturnsFilingReadForRequest() {
+        final var filing = OfficerFiling.builder(FILING).id(FILING_ID).build();
+        when(mockRequest.getAttribute(OFFICER_FILING_KEY)).thenReturn(filing);
+
+        assertThat(ValidTransactionInterceptor.getOfficerFiling(mockRequest, FILING_ID), is(Optional.of(filing)));
+        assertThat(ValidTransactionInterceptor.getOfficerFiling(mockRequest, OTHER_FILING_ID), is(Optional.empty()));
+    }
+
+    @Test
+    void getOfficerFilingReturnsEmptyWhenNotRead() {
+        assertThat(ValidTransactionInterceptor.getOfficerFiling(mockRequest, FILING_ID), is(Optional.empty()));
     }
 
     @Test
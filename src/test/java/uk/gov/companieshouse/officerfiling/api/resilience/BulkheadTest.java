@@ -0,0 +1,95 @@
+package uk.gov.companieshouse.officerfiling.api.resilience;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.officerfiling.api.exception.ServiceUnavailableException;
+
+class BulkheadTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Bulkhead<String> testBulkhead;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        testBulkhead = new Bulkhead<>("test", 1, Duration.ofMillis(200), meterRegistry);
+    }
+
+    @Test
+    void executeReturnsResultOfCall() {
+        assertThat(testBulkhead.execute(() -> "a"), is("a"));
+        assertThat(testBulkhead.activeCalls(), is(0));
+    }
+
+    @Test
+    void executePassesExceptionOfCall() {
+        final var failure = new IllegalStateException("down");
+
+        assertThat(assertThrows(IllegalStateException.class, () -> testBulkhead.execute(() -> {
+            throw failure;
+        })), is(sameInstance(failure)));
+    }
+
+    @Test
+    void executeRejectsCallWhenFull() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var running = executor.submit(() -> testBulkhead.execute(() -> {
+                started.countDown();
+                await(release);
+                return "a";
+            }));
+            started.await(5, TimeUnit.SECONDS);
+
+            assertThrows(ServiceUnavailableException.class, () -> testBulkhead.execute(() -> "b"));
+            release.countDown();
+            assertThat(running.get(), is("a"));
+        }
+        assertThat(meterRegistry.get("bulkhead.calls").tag("name", "test")
+                .tag("result", "rejected").counter().count(), is(1.0));
+    }
+
+    @Test
+    void executeGivesUpOnSlowCall() throws Exception {
+        assertThrows(ServiceUnavailableException.class, () -> testBulkhead.execute(() -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "a";
+        }));
+
+        awaitNoActiveCalls();
+        assertThat(testBulkhead.execute(() -> "b"), is("b"));
+        assertThat(meterRegistry.get("bulkhead.calls").tag("name", "test")
+                .tag("result", "timeout").counter().count(), is(1.0));
+    }
+
+    private void awaitNoActiveCalls() throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (testBulkhead.activeCalls() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
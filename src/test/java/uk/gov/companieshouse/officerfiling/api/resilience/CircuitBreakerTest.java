@@ -0,0 +1,114 @@
+package uk.gov.companieshouse.officerfiling.api.resilience;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.officerfiling.api.exception.ServiceUnavailableException;
+
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakerTest {
+
+    @Mock
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger calls;
+    private CircuitBreaker<String> testBreaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        calls = new AtomicInteger();
+        testBreaker = new CircuitBreaker<>("test", 2, Duration.ofSeconds(30), clock, meterRegistry);
+    }
+
+    @Test
+    void executeOpensCircuitAfterConsecutiveFailures() {
+        fail();
+        fail();
+
+        assertThat(testBreaker.getState(), is(CircuitBreaker.State.OPEN));
+        assertThrows(ServiceUnavailableException.class, () -> testBreaker.execute(this::succeed));
+        assertThat(calls.get(), is(2));
+        assertThat(meterRegistry.get("circuitbreaker.calls").tag("name", "test")
+                .tag("result", "rejected").counter().count(), is(1.0));
+    }
+
+    @Test
+    void executeKeepsCircuitClosedWhenFailuresNotConsecutive() {
+        fail();
+        testBreaker.execute(this::succeed);
+        fail();
+
+        assertThat(testBreaker.getState(), is(CircuitBreaker.State.CLOSED));
+        assertThat(testBreaker.getConsecutiveFailures(), is(1));
+    }
+
+    @Test
+    void executeCountsOtherExceptionsAsSuccess() {
+        for (var i = 0; i < 3; i++) {
+            assertThrows(IllegalArgumentException.class, () -> testBreaker.execute(() -> {
+                throw new IllegalArgumentException();
+            }));
+        }
+
+        assertThat(testBreaker.getState(), is(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    void executeClosesCircuitWhenTrialCallSucceeds() {
+        when(clock.millis()).thenReturn(0L, 30_000L);
+        fail();
+        fail();
+
+        assertThat(testBreaker.execute(this::succeed), is("ok"));
+        assertThat(testBreaker.getState(), is(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    void executeOpensCircuitAgainWhenTrialCallFails() {
+        when(clock.millis()).thenReturn(0L, 30_000L, 30_000L, 30_000L);
+        fail();
+        fail();
+        fail();
+
+        assertThat(testBreaker.getState(), is(CircuitBreaker.State.OPEN));
+        assertThat(calls.get(), is(3));
+    }
+
+    @Test
+    void executeAlwaysCallsWhenDisabled() {
+        final var disabled = new CircuitBreaker<String>("disabled", 0, Duration.ofSeconds(30), clock,
+                meterRegistry);
+        for (var i = 0; i < 3; i++) {
+            assertThrows(ServiceUnavailableException.class, () -> disabled.execute(() -> {
+                calls.incrementAndGet();
+                throw new ServiceUnavailableException();
+            }));
+        }
+
+        assertThat(calls.get(), is(3));
+    }
+
+    private void fail() {
+        assertThrows(ServiceUnavailableException.class, () -> testBreaker.execute(() -> {
+            calls.incrementAndGet();
+            throw new ServiceUnavailableException();
+        }));
+    }
+
+    private String succeed() {
+        calls.incrementAndGet();
+        return "ok";
+    }
+}
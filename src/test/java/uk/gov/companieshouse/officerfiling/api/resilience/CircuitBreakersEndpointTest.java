@@ -0,0 +1,35 @@
+package uk.gov.companieshouse.officerfiling.api.resilience;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.officerfiling.api.exception.ServiceUnavailableException;
+
+class CircuitBreakersEndpointTest {
+
+    @Test
+    void circuitBreakersReportsState() {
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var profileBreaker = new CircuitBreaker<String>("company-profile", 1,
+                Duration.ofSeconds(30), Clock.systemUTC(), meterRegistry);
+        final var appointmentBreaker = new CircuitBreaker<String>("company-appointment", 1,
+                Duration.ofSeconds(30), Clock.systemUTC(), meterRegistry);
+        assertThrows(ServiceUnavailableException.class, () -> profileBreaker.execute(() -> {
+            throw new ServiceUnavailableException();
+        }));
+
+        final var statuses = new CircuitBreakersEndpoint(
+                List.of(profileBreaker, appointmentBreaker)).circuitBreakers();
+
+        assertThat(statuses.get("company-profile"),
+                is(new CircuitBreakersEndpoint.CircuitBreakerStatus(CircuitBreaker.State.OPEN, 1)));
+        assertThat(statuses.get("company-appointment"),
+                is(new CircuitBreakersEndpoint.CircuitBreakerStatus(CircuitBreaker.State.CLOSED, 0)));
+    }
+}
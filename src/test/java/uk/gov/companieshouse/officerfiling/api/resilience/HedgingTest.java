@@ -0,0 +1,107 @@
+package uk.gov.companieshouse.officerfiling.api.resilience;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HedgingTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    void executeCallsOnceWhenDisabled() {
+        final var testHedging = new Hedging<String>("test", 95, 0, meterRegistry);
+
+        assertThat(testHedging.execute(() -> "a" + calls.incrementAndGet()), is("a1"));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    void executeTakesHedgeWhenCallIsSlow() {
+        final var testHedging = new Hedging<String>("test", 95, 100, meterRegistry);
+        warmUp(testHedging);
+        final var slowTaken = new AtomicBoolean();
+        final var release = new CountDownLatch(1);
+
+        final var result = testHedging.execute(() -> {
+            calls.incrementAndGet();
+            if (slowTaken.compareAndSet(false, true)) {
+                await(release);
+                return "slow";
+            }
+            return "fast";
+        });
+        release.countDown();
+
+        assertThat(result, is("fast"));
+        assertThat(calls.get(), is(Hedging.MIN_LATENCY_SAMPLES + 2));
+        assertThat(meterRegistry.get("hedging.hedges").tag("name", "test").counter().count(),
+                is(1.0));
+    }
+
+    @Test
+    void executeDoesNotHedgeBeyondBudget() {
+        final var testHedging = new Hedging<String>("test", 95, 1, meterRegistry);
+        warmUp(testHedging);
+
+        final var result = testHedging.execute(() -> {
+            calls.incrementAndGet();
+            sleep(100);
+            return "slow";
+        });
+
+        assertThat(result, is("slow"));
+        assertThat(calls.get(), is(Hedging.MIN_LATENCY_SAMPLES + 1));
+        assertThat(testHedging.hedgeRate(), is(0.0));
+    }
+
+    @Test
+    void executeFailsWhenEveryCallFails() {
+        final var testHedging = new Hedging<String>("test", 95, 100, meterRegistry);
+        warmUp(testHedging);
+
+        assertThrows(IllegalStateException.class, () -> testHedging.execute(() -> {
+            calls.incrementAndGet();
+            sleep(100);
+            throw new IllegalStateException("down");
+        }));
+        assertThat(calls.get(), is(Hedging.MIN_LATENCY_SAMPLES + 2));
+    }
+
+    private void warmUp(final Hedging<String> testHedging) {
+        for (var i = 0; i < Hedging.MIN_LATENCY_SAMPLES; i++) {
+            testHedging.execute(() -> "a" + calls.incrementAndGet());
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
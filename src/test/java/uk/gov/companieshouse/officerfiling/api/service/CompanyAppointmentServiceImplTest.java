@@ -3,12 +3,18 @@ package uk.gov.companieshouse.officerfiling.api.service;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.samePropertyValuesAs;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpResponseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,17 +29,25 @@ import uk.gov.companieshouse.api.model.ApiResponse;
 import uk.gov.companieshouse.api.model.delta.officers.AppointmentFullRecordAPI;
 import uk.gov.companieshouse.api.sdk.ApiClientService;
 import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.officerfiling.api.cache.ExpiringCache;
+import uk.gov.companieshouse.officerfiling.api.cache.SingleFlight;
 import uk.gov.companieshouse.officerfiling.api.exception.CompanyAppointmentServiceException;
 import uk.gov.companieshouse.officerfiling.api.exception.ServiceUnavailableException;
+import uk.gov.companieshouse.officerfiling.api.resilience.Bulkhead;
+import uk.gov.companieshouse.officerfiling.api.resilience.CircuitBreaker;
+import uk.gov.companieshouse.officerfiling.api.resilience.Hedging;
 
 @ExtendWith(MockitoExtension.class)
 class CompanyAppointmentServiceImplTest {
 
     private static final String PASSTHROUGH_HEADER = "passthrough";
+    private static final int FAILURE_THRESHOLD = 5;
     private static final String NAME = "Joe";
     private static final String COMPANY_NUMBER = "12345678";
     private static final String APPOINTMENT_ID = "app1";
     private static final String TRANS_ID = "12345-54321-76666";
+    private static final String ETAG = "etag";
+    private static final String URI = "/company/" + COMPANY_NUMBER + "/appointments/" + APPOINTMENT_ID + "/full_record";
 
     @Mock
     private ApiClientService apiClientService;
@@ -47,11 +61,20 @@ class CompanyAppointmentServiceImplTest {
     private ApiResponse<AppointmentFullRecordAPI> apiResponse;
     @Mock
     private Logger logger;
+    @Mock
+    private Clock clock;
     private CompanyAppointmentServiceImpl testService;
 
     @BeforeEach
     void setUp() {
-        testService = new CompanyAppointmentServiceImpl(apiClientService, logger);
+        final var meterRegistry = new SimpleMeterRegistry();
+        testService = new CompanyAppointmentServiceImpl(apiClientService, logger,
+                new ExpiringCache<>("company-appointment", 10, Duration.ofSeconds(30), clock, meterRegistry),
+                new SingleFlight<>("company-appointment", meterRegistry),
+                new CircuitBreaker<>("company-appointment", FAILURE_THRESHOLD, Duration.ofSeconds(30),
+                        Clock.systemUTC(), meterRegistry),
+                new Bulkhead<>("company-appointment", 20, Duration.ofSeconds(5), meterRegistry),
+                new Hedging<>("company-appointment", 95, 0, meterRegistry));
     }
 
     @Test
@@ -108,6 +131,75 @@ class CompanyAppointmentServiceImplTest {
             is("The service is down. Try again later"));
     }
 
+    @Test
+    void companyAppointmentIsReturnedFromCacheWhenReferenceEtagMatches() throws IOException, URIValidationException {
+        final var appointment = testCompanyAppointment(NAME);
+        appointment.setEtag(ETAG);
+        mockAppointmentFetch(appointment);
+
+        testService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, APPOINTMENT_ID, ETAG, PASSTHROUGH_HEADER);
+        AppointmentFullRecordAPI companyAppointment = testService.getCompanyAppointment("another-transaction",
+                COMPANY_NUMBER, APPOINTMENT_ID, ETAG, PASSTHROUGH_HEADER);
+
+        assertThat(companyAppointment, is(sameInstance(appointment)));
+        verify(getAppointment, times(1)).execute();
+    }
+
+    @Test
+    void companyAppointmentIsFetchedAgainWhenReferenceEtagDiffers() throws IOException, URIValidationException {
+        final var appointment = testCompanyAppointment(NAME);
+        appointment.setEtag(ETAG);
+        mockAppointmentFetch(appointment);
+
+        testService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, APPOINTMENT_ID, ETAG, PASSTHROUGH_HEADER);
+        testService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, APPOINTMENT_ID, "other-etag", PASSTHROUGH_HEADER);
+
+        verify(getAppointment, times(2)).execute();
+    }
+
+    @Test
+    void companyAppointmentIsFetchedAgainWhenNoReferenceEtag() throws IOException, URIValidationException {
+        mockAppointmentFetch(testCompanyAppointment(NAME));
+
+        testService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, APPOINTMENT_ID, null, PASSTHROUGH_HEADER);
+        testService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, APPOINTMENT_ID, null, PASSTHROUGH_HEADER);
+
+        verify(getAppointment, times(2)).execute();
+    }
+
+    @Test
+    void companyAppointmentIsFetchedAgainWhenCachedAppointmentExpired() throws IOException, URIValidationException {
+        when(clock.millis()).thenReturn(0L, 0L, 30_000L);
+        final var appointment = testCompanyAppointment(NAME);
+        appointment.setEtag(ETAG);
+        mockAppointmentFetch(appointment);
+
+        testService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, APPOINTMENT_ID, ETAG, PASSTHROUGH_HEADER);
+        testService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, APPOINTMENT_ID, ETAG, PASSTHROUGH_HEADER);
+
+        verify(getAppointment, times(2)).execute();
+    }
+
+    @Test
+    void companyAppointmentIsAlwaysFetchedWithoutReferenceEtagArgument() throws IOException, URIValidationException {
+        final var appointment = testCompanyAppointment(NAME);
+        appointment.setEtag(ETAG);
+        mockAppointmentFetch(appointment);
+
+        testService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, APPOINTMENT_ID, ETAG, PASSTHROUGH_HEADER);
+        testService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, APPOINTMENT_ID, PASSTHROUGH_HEADER);
+
+        verify(getAppointment, times(2)).execute();
+    }
+
+    private void mockAppointmentFetch(AppointmentFullRecordAPI appointment) throws IOException, URIValidationException {
+        when(apiResponse.getData()).thenReturn(appointment);
+        when(getAppointment.execute()).thenReturn(apiResponse);
+        when(privateDeltaResourceHandler.getAppointment(URI)).thenReturn(getAppointment);
+        when(internalApiClient.privateDeltaResourceHandler()).thenReturn(privateDeltaResourceHandler);
+        when(apiClientService.getInternalApiClient(PASSTHROUGH_HEADER)).thenReturn(internalApiClient);
+    }
+
     private AppointmentFullRecordAPI testCompanyAppointment(String name) {
         var companyAppointment = new AppointmentFullRecordAPI();
         companyAppointment.setName(name);
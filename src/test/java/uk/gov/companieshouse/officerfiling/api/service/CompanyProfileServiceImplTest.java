@@ -4,11 +4,16 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpResponseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,13 +28,18 @@ import uk.gov.companieshouse.api.model.ApiResponse;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.api.sdk.ApiClientService;
 import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.officerfiling.api.cache.ExpiringCache;
+import uk.gov.companieshouse.officerfiling.api.cache.SingleFlight;
 import uk.gov.companieshouse.officerfiling.api.exception.CompanyProfileServiceException;
 import uk.gov.companieshouse.officerfiling.api.exception.ServiceUnavailableException;
+import uk.gov.companieshouse.officerfiling.api.resilience.Bulkhead;
+import uk.gov.companieshouse.officerfiling.api.resilience.CircuitBreaker;
 
 @ExtendWith(MockitoExtension.class)
 class CompanyProfileServiceImplTest {
 
     private static final String PASSTHROUGH_HEADER = "passthrough";
+    private static final int FAILURE_THRESHOLD = 5;
     private static final String COMPANY_NUMBER = "12345678";
     private static final String TRANSACTION_ID = "987654321";
     private static final String URI = "/company/" + COMPANY_NUMBER;
@@ -48,11 +58,19 @@ class CompanyProfileServiceImplTest {
     private Logger logger;
     @Mock
     private CompanyProfileApi mockCompanyProfileApi;
+    @Mock
+    private Clock clock;
     private CompanyProfileServiceImpl testService;
 
     @BeforeEach
     void setUp() {
-        testService = new CompanyProfileServiceImpl(apiClientService, logger);
+        final var meterRegistry = new SimpleMeterRegistry();
+        testService = new CompanyProfileServiceImpl(apiClientService, logger,
+                new ExpiringCache<>("company-profile", 10, Duration.ofSeconds(30), clock, meterRegistry),
+                new SingleFlight<>("company-profile", meterRegistry),
+                new CircuitBreaker<>("company-profile", FAILURE_THRESHOLD, Duration.ofSeconds(30),
+                        Clock.systemUTC(), meterRegistry),
+                new Bulkhead<>("company-profile", 20, Duration.ofSeconds(5), meterRegistry));
     }
 
     @Test
@@ -108,4 +126,66 @@ class CompanyProfileServiceImplTest {
             is("The service is down. Try again later"));
     }
 
+    @Test
+    void companyProfileIsReturnedFromCacheWhenFetchedRecently() throws IOException, URIValidationException {
+        when(apiResponse.getData()).thenReturn(mockCompanyProfileApi);
+        when(companyGet.execute()).thenReturn(apiResponse);
+        when(companyResourceHandler.get(URI)).thenReturn(companyGet);
+        when(internalApiClient.company()).thenReturn(companyResourceHandler);
+        when(apiClientService.getInternalApiClient(PASSTHROUGH_HEADER)).thenReturn(internalApiClient);
+
+        testService.getCompanyProfile(TRANSACTION_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER);
+        CompanyProfileApi companyProfile = testService.getCompanyProfile("another-transaction", COMPANY_NUMBER, PASSTHROUGH_HEADER);
+
+        assertEquals(companyProfile, mockCompanyProfileApi);
+        verify(companyGet, times(1)).execute();
+    }
+
+    @Test
+    void companyProfileIsFetchedAgainWhenCachedProfileExpired() throws IOException, URIValidationException {
+        when(clock.millis()).thenReturn(0L, 0L, 30_000L);
+        when(apiResponse.getData()).thenReturn(mockCompanyProfileApi);
+        when(companyGet.execute()).thenReturn(apiResponse);
+        when(companyResourceHandler.get(URI)).thenReturn(companyGet);
+        when(internalApiClient.company()).thenReturn(companyResourceHandler);
+        when(apiClientService.getInternalApiClient(PASSTHROUGH_HEADER)).thenReturn(internalApiClient);
+
+        testService.getCompanyProfile(TRANSACTION_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER);
+        testService.getCompanyProfile(TRANSACTION_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER);
+
+        verify(companyGet, times(2)).execute();
+    }
+
+    @Test
+    void failedLookupIsNotCached() throws IOException, URIValidationException {
+        when(companyGet.execute()).thenThrow(ApiErrorResponseException.class).thenReturn(apiResponse);
+        when(apiResponse.getData()).thenReturn(mockCompanyProfileApi);
+        when(companyResourceHandler.get(URI)).thenReturn(companyGet);
+        when(internalApiClient.company()).thenReturn(companyResourceHandler);
+        when(apiClientService.getInternalApiClient(PASSTHROUGH_HEADER)).thenReturn(internalApiClient);
+
+        assertThrows(ServiceUnavailableException.class,
+            () -> testService.getCompanyProfile(TRANSACTION_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER));
+
+        assertEquals(mockCompanyProfileApi, testService.getCompanyProfile(TRANSACTION_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER));
+    }
+
+    @Test
+    void companyProfileIsNotQueriedWhileCircuitOpen() throws IOException, URIValidationException {
+        when(companyGet.execute()).thenThrow(ApiErrorResponseException.class);
+        when(companyResourceHandler.get(URI)).thenReturn(companyGet);
+        when(internalApiClient.company()).thenReturn(companyResourceHandler);
+        when(apiClientService.getInternalApiClient(PASSTHROUGH_HEADER)).thenReturn(internalApiClient);
+
+        for (var i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThrows(ServiceUnavailableException.class,
+                () -> testService.getCompanyProfile(TRANSACTION_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER));
+        }
+        final var exception = assertThrows(ServiceUnavailableException.class,
+            () -> testService.getCompanyProfile(TRANSACTION_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER));
+
+        assertThat(exception.getMessage(), is("The service is down. Try again later"));
+        verify(companyGet, times(FAILURE_THRESHOLD)).execute();
+    }
+
 }
@@ -11,6 +11,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
 import uk.gov.companieshouse.api.model.delta.officers.AddressAPI;
 import uk.gov.companieshouse.api.model.delta.officers.AppointmentFullRecordAPI;
 import uk.gov.companieshouse.api.model.delta.officers.SensitiveDateOfBirthAPI;
@@ -38,7 +39,9 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.samePropertyValuesAs;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -142,7 +145,7 @@ class FilingDataServiceImplTest {
         when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(officerFiling));
         when(filingAPIMapper.map(officerFiling)).thenReturn(filingData);
         when(transactionService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER)).thenReturn(transaction);
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         final var filingApi = testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -181,7 +184,7 @@ class FilingDataServiceImplTest {
         when(officerFilingService.get(FILING_ID, TRANS_ID)).thenReturn(Optional.of(officerFiling));
         when(filingAPIMapper.map(officerFiling)).thenReturn(filingData);
         when(transactionService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER)).thenReturn(transaction);
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         final var filingApi = testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -208,6 +211,40 @@ class FilingDataServiceImplTest {
                 is("Officer not found when generating filing for " + FILING_ID));
     }
 
+    @Test
+    void storeOfficerFilingReturnsStoredFilingApi() {
+        final var filingApi = new FilingApi();
+        final var officerFiling = OfficerFiling.builder().id(FILING_ID).version(2L).filingApi(filingApi)
+                .build();
+
+        assertThat(testService.storeOfficerFiling(TRANS_ID, officerFiling, PASSTHROUGH_HEADER), is(filingApi));
+        verifyNoInteractions(officerFilingService, transactionService, filingAPIMapper);
+    }
+
+    @ParameterizedTest(name = "[{index}] store fails={0}")
+    @ValueSource(booleans = {false, true})
+    void storeOfficerFilingGeneratesAndStoresFilingApi(final boolean storeFails) {
+        final var offData = OfficerFilingData.builder()
+                .firstName(FIRSTNAME)
+                .lastName(LASTNAME)
+                .appointedOn(RESIGNED_ON_INS)
+                .build();
+        final var officerFiling = OfficerFiling.builder().id(FILING_ID).version(2L).data(offData)
+                .build();
+        when(transactionService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER)).thenReturn(transaction);
+        when(filingAPIMapper.map(any(OfficerFiling.class))).thenReturn(
+                new FilingData(FIRSTNAME, MIDDLENAMES, LASTNAME, DATE_OF_BIRTH_STR, RESIGNED_ON_STR, false));
+        if (storeFails) {
+            when(officerFilingService.saveFilingApi(eq(FILING_ID), eq(2L), any(FilingApi.class), eq(TRANS_ID)))
+                    .thenThrow(new DataAccessResourceFailureException("down"));
+        }
+
+        final var filingApi = testService.storeOfficerFiling(TRANS_ID, officerFiling, PASSTHROUGH_HEADER);
+
+        assertThat(filingApi.getKind(), is("officer-filing#appointment"));
+        verify(officerFilingService).saveFilingApi(FILING_ID, 2L, filingApi, TRANS_ID);
+    }
+
     @Test
     void generateAppointmentOfficerFilingWhenFound() {
         final var filingData = new FilingData("Major", FIRSTNAME, MIDDLENAMES, LASTNAME, "former names", DATE_OF_BIRTH_STR, RESIGNED_ON_STR,
@@ -380,7 +417,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getOtherForenames()).thenReturn(MIDDLENAMES);
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         final var filingApi = testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -431,7 +468,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getOtherForenames()).thenReturn(MIDDLENAMES);
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         final var filingApi = testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -474,7 +511,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getOtherForenames()).thenReturn(MIDDLENAMES);
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -513,7 +550,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getOtherForenames()).thenReturn(MIDDLENAMES);
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -552,7 +589,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getOtherForenames()).thenReturn(MIDDLENAMES);
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -589,7 +626,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getOtherForenames()).thenReturn(MIDDLENAMES);
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -626,7 +663,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getOtherForenames()).thenReturn(MIDDLENAMES);
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -661,7 +698,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getOtherForenames()).thenReturn(MIDDLENAMES);
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -699,7 +736,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getOtherForenames()).thenReturn(MIDDLENAMES);
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -736,7 +773,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getOtherForenames()).thenReturn(MIDDLENAMES);
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -774,7 +811,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getOtherForenames()).thenReturn(MIDDLENAMES);
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -813,7 +850,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getOtherForenames()).thenReturn(MIDDLENAMES);
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -852,7 +889,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
         when(companyAppointment.getServiceAddress()).thenReturn(AddressAPI.builder().withCountry("Country").build());
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -891,7 +928,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getOtherForenames()).thenReturn(MIDDLENAMES);
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -929,7 +966,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
         when(companyAppointment.getResidentialAddressIsSameAsServiceAddress()).thenReturn(true);
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -970,7 +1007,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
         when(companyAppointment.getResidentialAddressIsSameAsServiceAddress()).thenReturn(true);
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -1011,7 +1048,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
         when(companyAppointment.getResidentialAddressIsSameAsServiceAddress()).thenReturn(true);
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -1051,7 +1088,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getOtherForenames()).thenReturn(MIDDLENAMES);
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -1093,7 +1130,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
         when(companyAppointment.getServiceAddress()).thenReturn(AddressAPI.builder().withCountry("Country").build());
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -1133,7 +1170,7 @@ class FilingDataServiceImplTest {
         when(companyAppointment.getSurname()).thenReturn(LASTNAME);
         when(companyAppointment.getDateOfBirth()).thenReturn(testSensitiveDateOfBirth());
         when(companyAppointment.getServiceAddress()).thenReturn(AddressAPI.builder().withCountry("Country").build());
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, REF_APPOINTMENT_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(REF_APPOINTMENT_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
 
         testService.generateOfficerFiling(TRANS_ID, FILING_ID, PASSTHROUGH_HEADER);
@@ -2,19 +2,40 @@ package uk.gov.companieshouse.officerfiling.api.service;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.mongodb.client.result.UpdateResult;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import jakarta.servlet.http.HttpServletRequest;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mapping.model.SnakeCaseFieldNamingStrategy;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.officerfiling.api.model.entity.Address;
@@ -22,6 +43,7 @@ import uk.gov.companieshouse.officerfiling.api.model.entity.Identification;
 import uk.gov.companieshouse.officerfiling.api.model.entity.Links;
 import uk.gov.companieshouse.officerfiling.api.model.entity.OfficerFiling;
 import uk.gov.companieshouse.officerfiling.api.model.entity.OfficerFilingData;
+import uk.gov.companieshouse.officerfiling.api.model.mapper.OfficerFilingMerger;
 import uk.gov.companieshouse.officerfiling.api.repository.OfficerFilingRepository;
 import uk.gov.companieshouse.officerfiling.api.utils.LogHelper;
 
@@ -34,6 +56,12 @@ class OfficerFilingDataServiceImplTest {
     @Mock
     private OfficerFilingRepository repository;
     @Mock
+    private MongoOperations mongoOperations;
+    @Captor
+    private ArgumentCaptor<Query> queryCaptor;
+    @Captor
+    private ArgumentCaptor<Update> updateCaptor;
+    @Mock
     private OfficerFiling filing;
     @Mock
     private Logger logger;
@@ -46,7 +74,7 @@ class OfficerFilingDataServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        testService = new OfficerFilingServiceImpl(repository, logger);
+        testService = new OfficerFilingServiceImpl(repository, mongoOperations, new OfficerFilingMerger(), logger);
     }
 
     @Test
@@ -56,6 +84,52 @@ class OfficerFilingDataServiceImplTest {
         verify(repository).save(filing);
     }
 
+    @Test
+    void saveReplacesFilingWhenIdTaken() {
+        final var toSave = OfficerFiling.builder()
+                .id(FILING_ID)
+                .kind("officer-filing#appointment")
+                .build();
+        final var replaced = OfficerFiling.builder(toSave).version(4L).build();
+        when(repository.save(toSave)).thenThrow(new DuplicateKeyException("E11000"));
+        when(mongoOperations.getConverter()).thenReturn(createConverter());
+        when(mongoOperations.findAndModify(queryCaptor.capture(), updateCaptor.capture(),
+                any(FindAndModifyOptions.class), eq(OfficerFiling.class))).thenReturn(replaced);
+
+        final var saved = testService.save(toSave, TRANS_ID);
+
+        assertThat(saved, is(replaced));
+        assertThat(queryCaptor.getValue().getQueryObject(), is(new Document("_id", FILING_ID)
+                .append("version", new Document("$exists", false))));
+        final var update = updateCaptor.getValue().getUpdateObject();
+        assertThat(update.get("$set", Document.class).get("kind"), is("officer-filing#appointment"));
+        assertThat(update.get("$unset", Document.class).keySet(), hasItem("data"));
+        assertThat(update.get("$unset", Document.class).keySet(), not(hasItem("version")));
+        assertThat(update.get("$inc"), is(new Document("version", 1)));
+    }
+
+    @Test
+    void saveDoesNotReplaceVersionedFilingWithoutVersion() {
+        final var toSave = OfficerFiling.builder()
+                .id(FILING_ID)
+                .kind("officer-filing#appointment")
+                .build();
+        when(repository.save(toSave)).thenThrow(new DuplicateKeyException("E11000"));
+        when(mongoOperations.getConverter()).thenReturn(createConverter());
+        when(mongoOperations.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(OfficerFiling.class))).thenReturn(null);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> testService.save(toSave, TRANS_ID));
+    }
+
+    @Test
+    void saveAll() {
+        final var filings = List.of(filing, OfficerFiling.builder().id(FILING_ID).build());
+        when(repository.insert(filings)).thenReturn(filings);
+
+        assertThat(testService.saveAll(filings, TRANS_ID), is(filings));
+    }
+
     @Test
     void getWhenFound() {
         when(repository.findById(FILING_ID)).thenReturn(Optional.of(OfficerFiling.builder().build()));
@@ -72,6 +146,14 @@ class OfficerFilingDataServiceImplTest {
         assertThat(officerFiling.isPresent(), is(false));
     }
 
+    @Test
+    void getAll() {
+        final var filings = List.of(OfficerFiling.builder().id(FILING_ID).build());
+        when(repository.findAllById(List.of(FILING_ID, "missing"))).thenReturn(filings);
+
+        assertThat(testService.getAll(List.of(FILING_ID, "missing"), TRANS_ID), is(filings));
+    }
+
     @Test
     void testMergePartial(){
         OfficerFilingData originalData = OfficerFilingData.builder()
@@ -138,6 +220,84 @@ class OfficerFilingDataServiceImplTest {
         assertThat(updatedFiling.getData().getResignedOn(), is(Instant.parse("2022-09-13T00:00:00Z")));
     }
 
+    @Test
+    void updateDataSetsNonNullDataFields() {
+        final var updatedAt = Instant.parse("2022-09-14T00:00:00Z");
+        final var updated = OfficerFiling.builder().build();
+        when(mongoOperations.getConverter()).thenReturn(createConverter());
+        when(mongoOperations.findAndModify(queryCaptor.capture(), updateCaptor.capture(),
+                any(FindAndModifyOptions.class), eq(OfficerFiling.class))).thenReturn(updated);
+        final var patch = OfficerFiling.builder()
+                .data(OfficerFilingData.builder()
+                        .referenceAppointmentId("Appoint")
+                        .serviceAddress(Address.builder().locality("Margate").build())
+                        .build())
+                .build();
+
+        final var officerFiling = testService.updateData(FILING_ID, patch, updatedAt, null, TRANS_ID);
+
+        assertThat(officerFiling, is(Optional.of(updated)));
+        assertThat(queryCaptor.getValue().getQueryObject(), is(new Document("_id", FILING_ID)));
+        final var set = updateCaptor.getValue().getUpdateObject().get("$set", Document.class);
+        assertThat(set.get("updatedAt"), is(updatedAt));
+        assertThat(set.get("data.reference_appointment_id"), is("Appoint"));
+        assertThat(set.get("data.service_address", Document.class).get("locality"), is("Margate"));
+        assertThat(set.keySet(), not(hasItem("data.reference_etag")));
+        assertThat(set.keySet(), not(hasItem("identification")));
+        assertThat(updateCaptor.getValue().getUpdateObject().get("$inc"),
+                is(new Document("version", 1)));
+        assertThat(updateCaptor.getValue().getUpdateObject().get("$unset", Document.class).keySet(),
+                hasItem("filingApi"));
+    }
+
+    @Test
+    void updateDataOnlyUpdatesVersions() {
+        when(mongoOperations.findAndModify(queryCaptor.capture(), any(Update.class),
+                any(FindAndModifyOptions.class), eq(OfficerFiling.class))).thenReturn(null);
+
+        final var officerFiling = testService.updateData(FILING_ID, OfficerFiling.builder().build(),
+                Instant.parse("2022-09-14T00:00:00Z"), List.of(3L), TRANS_ID);
+
+        assertThat(officerFiling.isPresent(), is(false));
+        assertThat(queryCaptor.getValue().getQueryObject(), is(new Document("_id", FILING_ID)
+                .append("version", new Document("$in", List.of(3L)))));
+    }
+
+    @Test
+    void saveFilingApiOnlyForVersionRead() {
+        final var filingApi = new FilingApi();
+        when(mongoOperations.getCollectionName(OfficerFiling.class)).thenReturn("officer_filing");
+        when(mongoOperations.updateFirst(queryCaptor.capture(), updateCaptor.capture(),
+                eq("officer_filing"))).thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        final var saved = testService.saveFilingApi(FILING_ID, 2L, filingApi, TRANS_ID);
+
+        assertThat(saved, is(true));
+        assertThat(queryCaptor.getValue().getQueryObject(), is(new Document("_id", FILING_ID)
+                .append("version", 2L)));
+        assertThat(updateCaptor.getValue().getUpdateObject().get("$set"),
+                is(new Document("filing_api", filingApi)));
+    }
+
+    @Test
+    void updateDataWhenNotFound() {
+        when(mongoOperations.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(OfficerFiling.class))).thenReturn(null);
+
+        final var officerFiling = testService.updateData(FILING_ID, OfficerFiling.builder().build(),
+                Instant.parse("2022-09-14T00:00:00Z"), null, TRANS_ID);
+
+        assertThat(officerFiling.isPresent(), is(false));
+    }
+
+    private static MappingMongoConverter createConverter() {
+        final var mappingContext = new MongoMappingContext();
+        mappingContext.setFieldNamingStrategy(new SnakeCaseFieldNamingStrategy());
+        final var converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
     OfficerFiling setUpFiling() throws URISyntaxException {
         URI selfUri = new URI("/transactions/012345-67891-01112/officers/abcd");
         URI validationStatusURI = new URI("");
@@ -4,9 +4,16 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,6 +32,8 @@ import uk.gov.companieshouse.api.model.officers.OfficerRoleApi;
 import uk.gov.companieshouse.api.model.officers.OfficersApi;
 import uk.gov.companieshouse.api.sdk.ApiClientService;
 import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.officerfiling.api.cache.ExpiringCache;
+import uk.gov.companieshouse.officerfiling.api.cache.SingleFlight;
 import uk.gov.companieshouse.officerfiling.api.exception.OfficerServiceException;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,11 +60,17 @@ class OfficerServiceImplTest {
     private OfficersApi mockOfficersApi;
     @Mock
     private HttpServletRequest request;
+    @Mock
+    private Clock clock;
     private OfficerServiceImpl testService;
 
     @BeforeEach
     void setUp() {
-        testService = new OfficerServiceImpl(apiClientService, logger);
+        final var meterRegistry = new SimpleMeterRegistry();
+        testService = new OfficerServiceImpl(apiClientService, logger,
+                new ExpiringCache<>("active-directors", 1000, Duration.ofSeconds(10),
+                        clock, meterRegistry),
+                new SingleFlight<>("officers-list", meterRegistry));
     }
 
     @Test
@@ -81,6 +96,72 @@ class OfficerServiceImplTest {
         assertEquals(officers, officersDetails.subList(0,1));
     }
 
+    @Test
+    void directorsAreReturnedFromEveryPageOfOfficers() throws Exception {
+        final var director1 = createOfficer(OfficerRoleApi.DIRECTOR);
+        final var director2 = createOfficer(OfficerRoleApi.DIRECTOR);
+        final var director3 = createOfficer(OfficerRoleApi.CORPORATE_DIRECTOR);
+        final var pageRequests = List.of(
+                pageRequest(250, createOfficer(OfficerRoleApi.NOMINEE_SECRETARY), director1),
+                pageRequest(250, director2),
+                pageRequest(250, director3));
+
+        when(officersResourceHandler.list(URI)).thenReturn(pageRequests.get(0), pageRequests.get(1),
+                pageRequests.get(2));
+        when(internalApiClient.officers()).thenReturn(officersResourceHandler);
+        when(apiClientService.getInternalApiClient(PASSTHROUGH_HEADER)).thenReturn(internalApiClient);
+
+        List<CompanyOfficerApi> officers = testService.getListOfActiveDirectorsDetails(request, TRANSACTION_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER);
+
+        assertEquals(List.of(director1, director2, director3), officers);
+        for (var i = 0; i < pageRequests.size(); i++) {
+            verify(pageRequests.get(i)).addQueryParams("items_per_page", "100");
+            verify(pageRequests.get(i)).addQueryParams("start_index", String.valueOf(i * 100));
+        }
+    }
+
+    @Test
+    void directorsAreCachedUntilExpired() throws IOException, URIValidationException {
+        final var director = createOfficer(OfficerRoleApi.DIRECTOR);
+
+        when(mockOfficersApi.getItems()).thenReturn(List.of(director));
+        when(apiResponse.getData()).thenReturn(mockOfficersApi);
+        when(officersList.execute()).thenReturn(apiResponse);
+        when(officersResourceHandler.list(URI)).thenReturn(officersList);
+        when(internalApiClient.officers()).thenReturn(officersResourceHandler);
+        when(apiClientService.getInternalApiClient(PASSTHROUGH_HEADER)).thenReturn(internalApiClient);
+
+        testService.getListOfActiveDirectorsDetails(request, TRANSACTION_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER);
+        List<CompanyOfficerApi> officers = testService.getListOfActiveDirectorsDetails(request, TRANSACTION_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER);
+
+        assertEquals(List.of(director), officers);
+        verify(officersList, times(1)).execute();
+
+        when(clock.millis()).thenReturn(Duration.ofSeconds(10).toMillis());
+        testService.getListOfActiveDirectorsDetails(request, TRANSACTION_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER);
+
+        verify(officersList, times(2)).execute();
+    }
+
+    @Test
+    void directorsAreCachedUntilInvalidated() throws IOException, URIValidationException {
+        final var director = createOfficer(OfficerRoleApi.DIRECTOR);
+
+        when(mockOfficersApi.getItems()).thenReturn(List.of(director));
+        when(apiResponse.getData()).thenReturn(mockOfficersApi);
+        when(officersList.execute()).thenReturn(apiResponse);
+        when(officersResourceHandler.list(URI)).thenReturn(officersList);
+        when(internalApiClient.officers()).thenReturn(officersResourceHandler);
+        when(apiClientService.getInternalApiClient(PASSTHROUGH_HEADER)).thenReturn(internalApiClient);
+
+        testService.getListOfActiveDirectorsDetails(request, TRANSACTION_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER);
+        testService.invalidateListOfActiveDirectors(COMPANY_NUMBER);
+        List<CompanyOfficerApi> officers = testService.getListOfActiveDirectorsDetails(request, TRANSACTION_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER);
+
+        assertEquals(List.of(director), officers);
+        verify(officersList, times(2)).execute();
+    }
+
     @Test
     void exceptionIsThrownWhenOfficersNotFound() throws IOException, URIValidationException {
         when(officersList.execute()).thenThrow(URIValidationException.class);
@@ -93,4 +174,23 @@ class OfficerServiceImplTest {
         assertThat(exception.getMessage(),
             containsString("Error Retrieving list of officers for company: " + COMPANY_NUMBER));
     }
+
+    private static CompanyOfficerApi createOfficer(final OfficerRoleApi officerRole) {
+        final var officer = new CompanyOfficerApi();
+        officer.setOfficerRole(officerRole);
+        return officer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static OfficersList pageRequest(final int totalResults, final CompanyOfficerApi... officers)
+            throws Exception {
+        final var page = new ObjectMapper().readValue("{\"total_results\": " + totalResults + "}",
+                OfficersApi.class);
+        page.setItems(List.of(officers));
+        final ApiResponse<OfficersApi> response = mock(ApiResponse.class);
+        when(response.getData()).thenReturn(page);
+        final var pageRequest = mock(OfficersList.class);
+        when(pageRequest.execute()).thenReturn(response);
+        return pageRequest;
+    }
 }
@@ -1,18 +1,28 @@
 package uk.gov.companieshouse.officerfiling.api.service;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.Matchers.samePropertyValuesAs;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static uk.gov.companieshouse.officerfiling.api.service.TransactionServiceImpl.TRANSACTION_LOOKUPS_METRIC;
 
 import com.google.api.client.http.HttpStatusCodes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import uk.gov.companieshouse.api.ApiClient;
 import uk.gov.companieshouse.api.InternalApiClient;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
@@ -57,13 +67,20 @@ class TransactionServiceImplTest {
 
     private Transaction testTransaction;
     private TransactionServiceImpl testService;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
-        testService = new TransactionServiceImpl(apiClientService, logger);
+        meterRegistry = new SimpleMeterRegistry();
+        testService = new TransactionServiceImpl(apiClientService, logger, meterRegistry);
         testTransaction = testTransaction(TRANS_ID);
     }
 
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     void getTransactionWhenFound() throws IOException, URIValidationException {
         when(apiResponse.getData()).thenReturn(testTransaction(TRANS_ID));
@@ -77,6 +94,71 @@ class TransactionServiceImplTest {
         assertThat(transaction, samePropertyValuesAs(testTransaction(TRANS_ID)));
     }
 
+    @Test
+    void getTransactionFetchedOncePerRequest() throws IOException, URIValidationException {
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(apiResponse.getData()).thenReturn(testTransaction);
+        when(transactionsGet.execute()).thenReturn(apiResponse);
+        when(transactionsResourceHandler.get("/transactions/" + TRANS_ID)).thenReturn(transactionsGet);
+        when(apiClient.transactions()).thenReturn(transactionsResourceHandler);
+        when(apiClientService.getApiClient(PASSTHROUGH_HEADER)).thenReturn(apiClient);
+
+        var first = testService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER);
+        var second = testService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER);
+
+        assertThat(second, is(sameInstance(first)));
+        verify(transactionsGet, times(1)).execute();
+        assertThat(lookups("remote"), is(1.0));
+        assertThat(lookups("request"), is(1.0));
+    }
+
+    @Test
+    void getTransactionReusesInterceptorTransaction() {
+        var request = new MockHttpServletRequest();
+        request.setAttribute("transaction", testTransaction);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        var transaction = testService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER);
+
+        assertThat(transaction, is(sameInstance(testTransaction)));
+        verifyNoInteractions(apiClientService);
+        assertThat(lookups("remote"), is(0.0));
+        assertThat(lookups("request"), is(1.0));
+    }
+
+    @Test
+    void getTransactionIgnoresInterceptorTransactionForOtherId() throws IOException, URIValidationException {
+        var request = new MockHttpServletRequest();
+        request.setAttribute("transaction", testTransaction("other"));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        when(apiResponse.getData()).thenReturn(testTransaction);
+        when(transactionsGet.execute()).thenReturn(apiResponse);
+        when(transactionsResourceHandler.get("/transactions/" + TRANS_ID)).thenReturn(transactionsGet);
+        when(apiClient.transactions()).thenReturn(transactionsResourceHandler);
+        when(apiClientService.getApiClient(PASSTHROUGH_HEADER)).thenReturn(apiClient);
+
+        var transaction = testService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER);
+
+        assertThat(transaction, is(sameInstance(testTransaction)));
+        assertThat(lookups("remote"), is(1.0));
+    }
+
+    @Test
+    void getTransactionNotMemoisedOutsideRequest() throws IOException, URIValidationException {
+        when(apiResponse.getData()).thenReturn(testTransaction);
+        when(transactionsGet.execute()).thenReturn(apiResponse);
+        when(transactionsResourceHandler.get("/transactions/" + TRANS_ID)).thenReturn(transactionsGet);
+        when(apiClient.transactions()).thenReturn(transactionsResourceHandler);
+        when(apiClientService.getApiClient(PASSTHROUGH_HEADER)).thenReturn(apiClient);
+
+        testService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER);
+        testService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER);
+
+        verify(transactionsGet, times(2)).execute();
+        assertThat(lookups("remote"), is(2.0));
+    }
+
     @Test
     void getTransactionWhenNotFound() throws IOException {
         when(apiClientService.getApiClient(PASSTHROUGH_HEADER)).thenThrow(IOException.class);
@@ -112,6 +194,10 @@ class TransactionServiceImplTest {
                 () -> testService.updateTransaction(testTransaction, PASSTHROUGH_HEADER));
     }
 
+    private double lookups(String source) {
+        return meterRegistry.get(TRANSACTION_LOOKUPS_METRIC).tag("source", source).counter().count();
+    }
+
     private Transaction testTransaction(String id) {
         var transaction = new Transaction();
         transaction.setId(id);
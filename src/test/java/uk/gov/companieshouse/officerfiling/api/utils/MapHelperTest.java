@@ -0,0 +1,76 @@
+package uk.gov.companieshouse.officerfiling.api.utils;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.officerfiling.api.model.entity.OfficerFilingData;
+
+class MapHelperTest {
+
+    private static final OfficerFilingData DATA = OfficerFilingData.builder()
+            .firstName("John")
+            .referenceAppointmentId("appointment")
+            .resignedOn(Instant.parse("2022-09-13T00:00:00Z"))
+            .build();
+
+    @Test
+    void convertObjectSnakeCase() {
+        final var map = MapHelper.convertObject(DATA, PropertyNamingStrategies.SNAKE_CASE);
+
+        assertThat(map, hasEntry("first_name", "John"));
+        assertThat(map, hasEntry("reference_appointment_id", "appointment"));
+        assertThat(map, hasKey("resigned_on"));
+        assertThat(map, not(hasKey("firstName")));
+    }
+
+    @Test
+    void convertObjectLowerCamelCase() {
+        final var map = MapHelper.convertObject(DATA, PropertyNamingStrategies.LOWER_CAMEL_CASE);
+
+        assertThat(map, hasEntry("firstName", "John"));
+        assertThat(map, hasEntry("referenceAppointmentId", "appointment"));
+        assertThat(map, not(hasKey("first_name")));
+    }
+
+    @Test
+    void convertObjectOtherStrategy() {
+        final var map = MapHelper.convertObject(DATA, PropertyNamingStrategies.KEBAB_CASE);
+
+        assertThat(map, hasEntry("first-name", "John"));
+    }
+
+    @Test
+    void convertObjectWhenStrategiesUsedConcurrently() throws Exception {
+        final var executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (var i = 0; i < 2000; i++) {
+                final var snake = i % 2 == 0;
+                tasks.add(() -> {
+                    final var map = MapHelper.convertObject(DATA, snake
+                            ? PropertyNamingStrategies.SNAKE_CASE
+                            : PropertyNamingStrategies.LOWER_CAMEL_CASE);
+                    return snake
+                            ? "John".equals(map.get("first_name")) && !map.containsKey("firstName")
+                            : "John".equals(map.get("firstName")) && !map.containsKey("first_name");
+                });
+            }
+            for (final Future<Boolean> result : executor.invokeAll(tasks)) {
+                assertThat(result.get(), is(true));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
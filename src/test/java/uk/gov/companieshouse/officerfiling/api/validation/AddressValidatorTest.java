@@ -49,7 +49,7 @@ class AddressValidatorTest {
 
     @BeforeEach
     void setUp() {
-        addressValidator = new AddressValidator(mockLogger, mockCompanyProfileService, ALLOWED_NATIONALITIES, mockApiEnumerations, COUNTRY_LIST, UK_COUNTRY_LIST);
+        addressValidator = new AddressValidator(mockLogger, mockCompanyProfileService, new AllowedValues(ALLOWED_NATIONALITIES, COUNTRY_LIST, UK_COUNTRY_LIST), mockApiEnumerations);
         apiErrorList = new ArrayList<>();
         residentialAddressErrorProvider = new ResidentialAddressErrorProvider(mockApiEnumerations);
         correspondenceAddressErrorProvider = new CorrespondenceAddressErrorProvider(mockApiEnumerations);
@@ -0,0 +1,46 @@
+package uk.gov.companieshouse.officerfiling.api.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CaseInsensitiveSetTest {
+
+    private final CaseInsensitiveSet set = CaseInsensitiveSet.of(
+            List.of("British", "Northern Irish", "Citizen of Bosnia and Herzegovina", "Ivorian", "Salvadorean"));
+
+    @ParameterizedTest
+    @ValueSource(strings = {"British", "british", "BRITISH", "northern irish", "Citizen Of Bosnia And Herzegovina"})
+    void containsIgnoringCase(String value) {
+        assertThat(set.contains(value)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "Brit", "British ", "Irish", "Britishhhh"})
+    void doesNotContainOtherValues(String value) {
+        assertThat(set.contains(value)).isFalse();
+    }
+
+    @Test
+    void doesNotContainNull() {
+        assertThat(set.contains(null)).isFalse();
+    }
+
+    @Test
+    void emptySetContainsNothing() {
+        assertThat(CaseInsensitiveSet.of(List.of()).contains("British")).isFalse();
+    }
+
+    @Test
+    void containsEveryValueOfALargeSet() {
+        final var values = IntStream.range(0, 1000).mapToObj(i -> "Nationality" + i).toList();
+        final var largeSet = CaseInsensitiveSet.of(values);
+
+        assertThat(values).allMatch(value -> largeSet.contains(value.toUpperCase()));
+        assertThat(largeSet.contains("Nationality1000")).isFalse();
+    }
+}
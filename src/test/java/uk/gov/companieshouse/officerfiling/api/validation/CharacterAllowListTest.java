@@ -0,0 +1,55 @@
+package uk.gov.companieshouse.officerfiling.api.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CharacterAllowListTest {
+    private static final String REGEX = "^[A-Za-zÀÁÂ' -]*$";
+
+    private final CharacterAllowList allowList = CharacterAllowList.fromRegex(REGEX);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "Anne-Marie", "O'Brien", "ÀÁÂ", "Jo Bloggs", "John1", "John!", "Ã", "tab\tname",
+            "line\n", "😀"})
+    void permitsAgreesWithRegex(String value) {
+        assertThat(allowList.permits(value))
+                .as(value)
+                .isEqualTo(Pattern.compile(REGEX).matcher(value).matches());
+    }
+
+    @Test
+    void permitsOnlyListedCharacters() {
+        assertThat(allowList.permits("Anne-Marie O'Brien")).isTrue();
+        assertThat(allowList.permits("Anne_Marie")).isFalse();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("validatorAllowLists")
+    void validatorAllowListAgreesWithRegexForEveryCharacter(final String name, final CharacterAllowList allowList,
+            final String regex) {
+        final var matcher = Pattern.compile(regex).matcher("");
+        for (var c = (int) Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            final var value = String.valueOf((char) c);
+            assertThat(allowList.permits(value))
+                    .as("%s U+%04X", name, c)
+                    .isEqualTo(matcher.reset(value).matches());
+        }
+    }
+
+    private static Stream<Arguments> validatorAllowLists() {
+        return Stream.of(
+                Arguments.of("valid characters", OfficerValidator.VALID_CHARACTERS,
+                        OfficerValidator.REG_EXP_FOR_VALID_CHARACTERS),
+                Arguments.of("name", OfficerValidator.NAME_CHARACTERS, OfficerValidator.REG_EXP_FOR_NAME),
+                Arguments.of("title", OfficerValidator.TITLE_CHARACTERS, OfficerValidator.REG_EXP_FOR_TITLE),
+                Arguments.of("former names", OfficerValidator.FORMER_NAME_CHARACTERS,
+                        OfficerValidator.REG_EXP_FOR_FORMER_NAMES));
+    }
+}
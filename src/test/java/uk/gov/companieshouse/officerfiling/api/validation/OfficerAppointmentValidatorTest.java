@@ -74,7 +74,9 @@ class OfficerAppointmentValidatorTest {
 
     @BeforeEach
     void setUp() {
-        officerAppointmentValidator = new OfficerAppointmentValidator(logger, companyProfileService, apiEnumerations, ALLOWED_NATIONALITIES, List.of("England", "Wales", "Scotland", "Northern Ireland", "France"), List.of("England", "Wales", "Scotland", "Northern Ireland"));
+        final var allowedValues = new AllowedValues(ALLOWED_NATIONALITIES, List.of("England", "Wales", "Scotland", "Northern Ireland", "France"), List.of("England", "Wales", "Scotland", "Northern Ireland"));
+        officerAppointmentValidator = new OfficerAppointmentValidator(logger, companyProfileService, apiEnumerations, allowedValues,
+                new AddressValidator(logger, companyProfileService, allowedValues, apiEnumerations));
         apiErrorsList = new ArrayList<>();
     }
 
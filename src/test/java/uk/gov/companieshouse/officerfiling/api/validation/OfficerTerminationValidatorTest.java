@@ -7,6 +7,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import uk.gov.companieshouse.api.error.ApiError;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.api.model.delta.officers.AppointmentFullRecordAPI;
@@ -27,9 +28,21 @@ import java.time.LocalDate;
 import java.time.Month;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -68,7 +81,7 @@ class OfficerTerminationValidatorTest {
 
     @BeforeEach
     void setUp() {
-        officerTerminationValidator = new OfficerTerminationValidator(logger, companyProfileService, companyAppointmentService, ALLOWED_NATIONALITIES, apiEnumerations);
+        officerTerminationValidator = new OfficerTerminationValidator(logger, companyProfileService, companyAppointmentService, new AllowedValues(ALLOWED_NATIONALITIES, List.of(), List.of()), apiEnumerations);
         apiErrorsList = new ArrayList<>();
     }
 
@@ -89,7 +102,7 @@ class OfficerTerminationValidatorTest {
         when(companyAppointment.getOfficerRole()).thenReturn(OFFICER_ROLE);
 
         when(companyProfileService.getCompanyProfile(transaction.getId(), COMPANY_NUMBER, PASSTHROUGH_HEADER)).thenReturn(companyProfile);
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
 
         final var apiErrors = officerTerminationValidator.validate(request, dto, transaction, PASSTHROUGH_HEADER);
         assertThat(apiErrors.getErrors())
@@ -97,6 +110,101 @@ class OfficerTerminationValidatorTest {
                 .isEmpty();
     }
 
+    @Test
+    void validateAllFetchesCompanyProfileOnce() {
+        final var validDto = OfficerFilingDto.builder()
+                .referenceEtag(ETAG)
+                .referenceAppointmentId(FILING_ID)
+                .resignedOn(LocalDate.of(2022, 9, 13))
+                .build();
+        final var blankIdDto = OfficerFilingDto.builder()
+                .referenceEtag(ETAG)
+                .referenceAppointmentId(" ")
+                .resignedOn(LocalDate.of(2022, 9, 13))
+                .build();
+        final var notFoundDto = OfficerFilingDto.builder()
+                .referenceEtag(ETAG)
+                .referenceAppointmentId("not-found")
+                .resignedOn(LocalDate.of(2022, 9, 13))
+                .build();
+
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(companyProfile.getDateOfCreation()).thenReturn(LocalDate.of(2021, 10, 3));
+        when(companyProfile.getType()).thenReturn(COMPANY_TYPE);
+        when(companyAppointment.getAppointedOn()).thenReturn(LocalDate.of(2021, 10, 5));
+        when(companyAppointment.getEtag()).thenReturn(ETAG);
+        when(companyAppointment.getOfficerRole()).thenReturn(OFFICER_ROLE);
+        when(apiEnumerations.getValidation(ValidationEnum.OFFICER_ID_BLANK)).thenReturn("The Officer ID must be completed");
+        when(apiEnumerations.getValidation(ValidationEnum.DIRECTOR_NOT_FOUND, "Director")).thenReturn("Director cannot be found");
+
+        when(companyProfileService.getCompanyProfile(TRANS_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER)).thenReturn(companyProfile);
+        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, ETAG, PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, "not-found", ETAG, PASSTHROUGH_HEADER)).thenThrow(
+                new CompanyAppointmentServiceException("Error Retrieving appointment"));
+
+        final var apiErrors = officerTerminationValidator.validateAll(request,
+                List.of(validDto, blankIdDto, notFoundDto), transaction, PASSTHROUGH_HEADER);
+
+        assertThat(apiErrors).hasSize(3);
+        assertThat(apiErrors.get(0).getErrors()).isEmpty();
+        assertThat(apiErrors.get(1).getErrors())
+                .extracting(ApiError::getError)
+                .containsExactly("The Officer ID must be completed");
+        assertThat(apiErrors.get(2).getErrors())
+                .extracting(ApiError::getError)
+                .containsExactly("Director cannot be found");
+        verify(companyProfileService, times(1)).getCompanyProfile(TRANS_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER);
+        verify(companyAppointmentService, never()).getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, " ", ETAG, PASSTHROUGH_HEADER);
+    }
+
+    @Test
+    void validateAllLimitsConcurrentAppointmentFetches() {
+        ReflectionTestUtils.setField(officerTerminationValidator, "maxConcurrentFetches", 2);
+        final var dtos = IntStream.range(0, 6)
+                .mapToObj(i -> OfficerFilingDto.builder()
+                        .referenceEtag(ETAG)
+                        .referenceAppointmentId(FILING_ID + i)
+                        .resignedOn(LocalDate.of(2022, 9, 13))
+                        .build())
+                .toList();
+        final var inFlight = new AtomicInteger();
+        final var maxInFlight = new AtomicInteger();
+
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(companyProfileService.getCompanyProfile(TRANS_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER)).thenReturn(companyProfile);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), any(), eq(ETAG), eq(PASSTHROUGH_HEADER))).thenAnswer(i -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            inFlight.decrementAndGet();
+            throw new CompanyAppointmentServiceException("Error Retrieving appointment");
+        });
+
+        final var apiErrors = officerTerminationValidator.validateAll(request, dtos, transaction, PASSTHROUGH_HEADER);
+
+        assertThat(apiErrors).hasSize(6).allSatisfy(errors -> assertThat(errors.getErrors()).hasSize(1));
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        verify(companyAppointmentService, times(6)).getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), any(), eq(ETAG), eq(PASSTHROUGH_HEADER));
+    }
+
+    @Test
+    void validateAllWhenTransactionCompanyNumberNull() {
+        final var dto = OfficerFilingDto.builder()
+                .referenceEtag(ETAG)
+                .referenceAppointmentId(FILING_ID)
+                .resignedOn(LocalDate.of(2022, 9, 13))
+                .build();
+        when(transaction.getCompanyNumber()).thenReturn(null);
+
+        final var apiErrors = officerTerminationValidator.validateAll(request, List.of(dto, dto), transaction, PASSTHROUGH_HEADER);
+
+        assertThat(apiErrors).hasSize(2).allSatisfy(errors -> assertThat(errors.getErrors())
+                .extracting(ApiError::getError)
+                .containsExactly("The company number cannot be null or blank"));
+        verifyNoInteractions(companyProfileService, companyAppointmentService);
+    }
+
     @Test
     void validateWhenTransactionCompanyNumberNull() {
         final var dto = OfficerFilingDto.builder()
@@ -141,7 +249,7 @@ class OfficerTerminationValidatorTest {
         when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
         when(transaction.getId()).thenReturn(TRANS_ID);
         when(apiEnumerations.getValidation(ValidationEnum.SERVICE_UNAVAILABLE)).thenReturn("Sorry, this service is unavailable. You will be able to use the service later");
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER)).thenThrow(
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenThrow(
                 new ServiceUnavailableException());
 
         final var apiErrors = officerTerminationValidator.validate(request, dto, transaction, PASSTHROUGH_HEADER);
@@ -152,6 +260,59 @@ class OfficerTerminationValidatorTest {
                 .contains("Sorry, this service is unavailable. You will be able to use the service later");
     }
 
+    @Test
+    void companyProfileAndAppointmentFetchedConcurrently() {
+        final var dto = OfficerFilingDto.builder()
+                .referenceAppointmentId(FILING_ID)
+                .build();
+        final var profileRequested = new CountDownLatch(1);
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(companyProfileService.getCompanyProfile(TRANS_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER)).thenAnswer(i -> {
+            profileRequested.countDown();
+            return companyProfile;
+        });
+        // The appointment lookup only completes once the profile lookup is in flight
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenAnswer(
+                i -> profileRequested.await(5, TimeUnit.SECONDS) ? companyAppointment : null);
+
+        final var companyDetails = officerTerminationValidator.getCompanyProfileAndAppointment(request, dto, transaction, PASSTHROUGH_HEADER);
+
+        assertThat(companyDetails.companyProfile()).contains(companyProfile);
+        assertThat(companyDetails.companyAppointment()).contains(companyAppointment);
+        assertThat(companyDetails.companyProfileErrors()).isEmpty();
+        assertThat(companyDetails.companyAppointmentErrors()).isEmpty();
+    }
+
+    @Test
+    void companyAppointmentCancelledWhenCompanyProfileFailsUnexpectedly() {
+        final var dto = OfficerFilingDto.builder()
+                .referenceAppointmentId(FILING_ID)
+                .build();
+        final var appointmentStarted = new CountDownLatch(1);
+        final var appointmentInterrupted = new AtomicBoolean();
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+        when(transaction.getId()).thenReturn(TRANS_ID);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenAnswer(i -> {
+            appointmentStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                appointmentInterrupted.set(true);
+            }
+            return companyAppointment;
+        });
+        when(companyProfileService.getCompanyProfile(TRANS_ID, COMPANY_NUMBER, PASSTHROUGH_HEADER)).thenAnswer(i -> {
+            appointmentStarted.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("unexpected");
+        });
+
+        assertThatThrownBy(() -> officerTerminationValidator.getCompanyProfileAndAppointment(request, dto, transaction, PASSTHROUGH_HEADER))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("unexpected");
+        assertThat(appointmentInterrupted).isTrue();
+    }
+
     @Test
     void validationWhenCompanyProfileServiceUnavailable() {
         final var dto = OfficerFilingDto.builder()
@@ -289,7 +450,7 @@ class OfficerTerminationValidatorTest {
         when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
         when(transaction.getId()).thenReturn(TRANS_ID);
         when(companyProfileService.getCompanyProfile(transaction.getId(), COMPANY_NUMBER, PASSTHROUGH_HEADER)).thenReturn(companyProfile);
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER)).thenThrow(
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenThrow(
                 new CompanyAppointmentServiceException("Error Retrieving appointment"));
         when(apiEnumerations.getValidation(ValidationEnum.DIRECTOR_NOT_FOUND, "Director")).thenReturn("Director cannot be found");
 
@@ -313,7 +474,7 @@ class OfficerTerminationValidatorTest {
         when(transaction.getId()).thenReturn(TRANS_ID);
         when(companyProfileService.getCompanyProfile(transaction.getId(), COMPANY_NUMBER, PASSTHROUGH_HEADER)).thenThrow(
                 new CompanyProfileServiceException("Error Retrieving company"));
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER))
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER)))
                 .thenReturn(companyAppointment);
         when(apiEnumerations.getValidation(ValidationEnum.CANNOT_FIND_COMPANY)).thenReturn("We cannot find the company");
 
@@ -341,7 +502,7 @@ class OfficerTerminationValidatorTest {
         when(companyProfile.getDateOfCreation()).thenReturn(LocalDate.of(2021, 10, 3));
         when(companyProfile.getType()).thenReturn("invalid-type");
         when(companyProfileService.getCompanyProfile(transaction.getId(), COMPANY_NUMBER, PASSTHROUGH_HEADER)).thenReturn(companyProfile);
-        when(companyAppointmentService.getCompanyAppointment(TRANS_ID, COMPANY_NUMBER, FILING_ID, PASSTHROUGH_HEADER)).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(eq(TRANS_ID), eq(COMPANY_NUMBER), eq(FILING_ID), any(), eq(PASSTHROUGH_HEADER))).thenReturn(companyAppointment);
 
         when(apiEnumerations.getCompanyType("invalid-type")).thenReturn("Invalid Company Type");
         when(apiEnumerations.getValidation(ValidationEnum.REMOVAL_DATE_AFTER_APPOINTMENT_DATE, "Director")).thenReturn("Date Director was removed must be on or after the date the director was appointed");
@@ -82,7 +82,7 @@ class OfficerUpdateValidatorTest {
 
     @BeforeEach
     void setUp() {
-        officerUpdateValidator = spy(new OfficerUpdateValidator(logger, companyAppointmentService, companyProfileService, ALLOWED_NATIONALITIES, apiEnumerations, addressValidator));
+        officerUpdateValidator = spy(new OfficerUpdateValidator(logger, companyAppointmentService, companyProfileService, new AllowedValues(ALLOWED_NATIONALITIES, List.of(), List.of()), apiEnumerations, addressValidator));
         apiErrorsList = new ArrayList<>();
     }
 
@@ -122,7 +122,7 @@ class OfficerUpdateValidatorTest {
                 .directorsDetailsChangedDate(LocalDate.now().minusDays(1))
                 .build();
         when(companyProfileService.getCompanyProfile(any(), any(), any())).thenReturn(companyProfile);
-        when(companyAppointmentService.getCompanyAppointment(any(), any(), any(), any())).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(any(), any(), any(), any(), any())).thenReturn(companyAppointment);
         when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
         when(transaction.getId()).thenReturn(TRANS_ID);
         when(apiEnumerations.getValidation(ValidationEnum.BLANK_CH01_SUBMISSION)).thenReturn("Submit a change to the officer details before submitting");
@@ -141,7 +141,7 @@ class OfficerUpdateValidatorTest {
         when(dto.getDirectorsDetailsChangedDate()).thenReturn(LocalDate.now().minusDays(1));
         when(dto.getReferenceEtag()).thenReturn(ETAG);
         when(companyProfileService.getCompanyProfile(any(), any(), any())).thenReturn(companyProfile);
-        when(companyAppointmentService.getCompanyAppointment(any(), any(), any(), any())).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(any(), any(), any(), any(), any())).thenReturn(companyAppointment);
         when(companyProfile.getCompanyStatus()).thenReturn("dissolved");
 
         when(apiEnumerations.getValidation(ValidationEnum.COMPANY_DISSOLVED)).thenReturn("You cannot add, remove or update a director from a company that has been dissolved or is in the process of being dissolved");
@@ -543,7 +543,7 @@ class OfficerUpdateValidatorTest {
         when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
         when(transaction.getId()).thenReturn(TRANS_ID);
         when(companyProfileService.getCompanyProfile(any(), any(), any())).thenReturn(companyProfile);
-        when(companyAppointmentService.getCompanyAppointment(any(), any(), any(), any())).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(any(), any(), any(), any(), any())).thenReturn(companyAppointment);
 
         final var officerFilingDto = OfficerFilingDto.builder()
                 .referenceEtag(ETAG)
@@ -570,7 +570,7 @@ class OfficerUpdateValidatorTest {
         when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
         when(transaction.getId()).thenReturn(TRANS_ID);
         when(companyProfileService.getCompanyProfile(any(), any(), any())).thenReturn(companyProfile);
-        when(companyAppointmentService.getCompanyAppointment(any(), any(), any(), any())).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(any(), any(), any(), any(), any())).thenReturn(companyAppointment);
 
         final var officerFilingDto = OfficerFilingDto.builder()
                 .referenceEtag(ETAG)
@@ -598,7 +598,7 @@ class OfficerUpdateValidatorTest {
         when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
         when(transaction.getId()).thenReturn(TRANS_ID);
         when(companyProfileService.getCompanyProfile(any(), any(), any())).thenReturn(companyProfile);
-        when(companyAppointmentService.getCompanyAppointment(any(), any(), any(), any())).thenReturn(companyAppointment);
+        when(companyAppointmentService.getCompanyAppointment(any(), any(), any(), any(), any())).thenReturn(companyAppointment);
 
         final var officerFilingDto = OfficerFilingDto.builder()
                 .referenceEtag(ETAG)